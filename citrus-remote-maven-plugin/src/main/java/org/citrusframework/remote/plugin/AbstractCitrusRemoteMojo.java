@@ -19,6 +19,7 @@ package org.citrusframework.remote.plugin;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.core5.util.Timeout;
@@ -54,6 +55,12 @@ public abstract class AbstractCitrusRemoteMojo extends AbstractMojo {
     @Parameter(property = "citrus.remote.plugin.timeout", defaultValue = "60000")
     private int timeout = 60000;
 
+    /**
+     * Accept gzip/deflate compressed responses. The client asks for compression by default, set to false to opt out.
+     */
+    @Parameter(property = "citrus.remote.plugin.compression", defaultValue = "true")
+    private boolean compression = true;
+
     /**
      * The output directory of the assembled distribution file.
      */
@@ -73,12 +80,29 @@ public abstract class AbstractCitrusRemoteMojo extends AbstractMojo {
     private ReportConfiguration report;
 
     /** Http client */
-    private final CloseableHttpClient httpClient;
+    private CloseableHttpClient httpClient;
 
     /**
-     * Constructor using default client.
+     * Constructor using default client. The client is created lazily on first use so that it picks up the
+     * configured timeout and compression settings.
      */
     protected AbstractCitrusRemoteMojo() {
+    }
+
+    /**
+     * Constructor using given client.
+     * @param httpClient
+     */
+    protected AbstractCitrusRemoteMojo(CloseableHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Creates the default client using the configured timeout. The client adds the Accept-Encoding header to each
+     * request and transparently decodes compressed responses unless compression has been disabled.
+     * @return
+     */
+    private CloseableHttpClient createHttpClient() {
         Timeout timoutMillis = Timeout.ofMilliseconds(timeout);
 
         ConnectionConfig connectionConfig = ConnectionConfig.custom()
@@ -88,22 +112,19 @@ public abstract class AbstractCitrusRemoteMojo extends AbstractMojo {
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setDefaultConnectionConfig(connectionConfig);
 
-        httpClient = HttpClients.custom()
+        HttpClientBuilder clientBuilder = HttpClients.custom()
                 .setConnectionManager(connectionManager)
                 .setDefaultRequestConfig(
                         RequestConfig.custom()
                                 .setConnectionRequestTimeout(timoutMillis)
                                 .setResponseTimeout(timoutMillis)
-                                .build())
-                .build();
-    }
+                                .build());
 
-    /**
-     * Constructor using given client.
-     * @param httpClient
-     */
-    protected AbstractCitrusRemoteMojo(CloseableHttpClient httpClient) {
-        this.httpClient = httpClient;
+        if (!compression) {
+            clientBuilder.disableContentCompression();
+        }
+
+        return clientBuilder.build();
     }
 
     @Override
@@ -180,6 +201,10 @@ public abstract class AbstractCitrusRemoteMojo extends AbstractMojo {
      * @return
      */
     public CloseableHttpClient getHttpClient() {
+        if (httpClient == null) {
+            httpClient = createHttpClient();
+        }
+
         return httpClient;
     }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.plugin;
+
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProjectHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Creates an application class data sharing (AppCDS) archive for the executable remote server assembly. Starts the
+ * packaged server once as training run, sends some requests so the request handling classes get loaded and dumps
+ * all loaded classes into a dynamic CDS archive when the server exits. The archive is shipped next to the server jar
+ * in a zip distribution together with the JVM options and a launcher script using the archive, which considerably
+ * reduces the server startup time.
+ *
+ * @since 4.11
+ */
+@Mojo(name = "cds-archive", defaultPhase = LifecyclePhase.PACKAGE)
+public class CdsArchiveMojo extends AbstractCitrusRemoteMojo {
+
+    /** Name of the file holding the JVM options that enable the archive */
+    private static final String JVM_OPTIONS_FILE = "jvm.options";
+
+    /** Name of the launcher script */
+    private static final String LAUNCHER_SCRIPT = "run.sh";
+
+    @Parameter(property = "citrus.remote.skip.cds", defaultValue = "false")
+    protected boolean skipCds;
+
+    /**
+     * Executable server assembly to create the archive for.
+     */
+    @Parameter(property = "citrus.remote.cds.assembly", defaultValue = "${project.build.directory}/${project.build.finalName}-citrus-tests.jar", required = true)
+    private File assemblyFile;
+
+    /**
+     * Java executable used for the training run. Must be the same Java version that runs the server later on.
+     */
+    @Parameter(property = "citrus.remote.cds.java", defaultValue = "${java.home}/bin/java", required = true)
+    private String javaExecutable;
+
+    /**
+     * Server port used for the training run.
+     */
+    @Parameter(property = "citrus.remote.cds.port", defaultValue = "18686")
+    private int trainingPort = 18686;
+
+    /**
+     * Maximum time in milliseconds to wait for the training run to start and to exit.
+     */
+    @Parameter(property = "citrus.remote.cds.timeout", defaultValue = "120000")
+    private long trainingTimeout = 120000L;
+
+    /**
+     * Server paths requested during the training run so the request handling classes are part of the archive.
+     */
+    @Parameter
+    private List<String> trainingRequests = Arrays.asList("/health", "/metrics", "/configuration", "/jobs", "/results", "/results/files");
+
+    /**
+     * Additional server arguments for the training run.
+     */
+    @Parameter(property = "citrus.remote.cds.args")
+    private List<String> trainingArguments = new ArrayList<>();
+
+    /**
+     * Directory the distribution with server jar and archive is created in.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/citrus-remote-cds", required = true)
+    private File cdsDirectory;
+
+    @Component
+    private MavenProjectHelper projectHelper;
+
+    @Override
+    public void doExecute() throws MojoExecutionException, MojoFailureException {
+        if (skipCds) {
+            return;
+        }
+
+        if (!assemblyFile.isFile()) {
+            throw new MojoExecutionException("Missing server assembly " + assemblyFile + " - create the assembly with the test-jar goal first");
+        }
+
+        try {
+            Path directory = cdsDirectory.toPath();
+            Files.createDirectories(directory);
+
+            // the archive is bound to the class path, so train with the jar at the same relative location it is shipped with
+            String jarName = assemblyFile.getName();
+            String archiveName = jarName.replaceFirst("\\.jar$", "") + ".jsa";
+            Files.copy(assemblyFile.toPath(), directory.resolve(jarName), REPLACE_EXISTING);
+            Files.deleteIfExists(directory.resolve(archiveName));
+
+            train(directory, jarName, archiveName);
+
+            Path archive = directory.resolve(archiveName);
+            if (!Files.isRegularFile(archive) || Files.size(archive) == 0L) {
+                throw new MojoExecutionException("Training run did not create CDS archive " + archive + " - see " + directory.resolve("training.log"));
+            }
+
+            String jvmOptions = "-XX:SharedArchiveFile=" + archiveName + " -Xshare:auto";
+            Files.writeString(directory.resolve(JVM_OPTIONS_FILE), jvmOptions + System.lineSeparator());
+            Files.writeString(directory.resolve(LAUNCHER_SCRIPT), String.join("\n",
+                    "#!/bin/sh",
+                    "cd \"$(dirname \"$0\")\"",
+                    "exec java @" + JVM_OPTIONS_FILE + " $JAVA_OPTS -jar " + jarName + " \"$@\"",
+                    ""));
+
+            File distribution = new File(getOutputDirectory(), jarName.replaceFirst("\\.jar$", "") + "-cds.zip");
+            createDistribution(distribution.toPath(), directory, jarName, archiveName, JVM_OPTIONS_FILE, LAUNCHER_SCRIPT);
+            projectHelper.attachArtifact(project, "zip", "cds", distribution);
+
+            getLog().info(String.format("Created CDS archive %s (%d bytes) - run the server with %s",
+                    archiveName, Files.size(archive), jvmOptions));
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to create CDS archive", e);
+        }
+    }
+
+    /**
+     * Starts the server assembly with dynamic archiving enabled, sends the training requests and stops the server
+     * with its stop endpoint. The JVM writes the archive on a clean exit only. The server runs with an explicit
+     * duration, so it also terminates regularly when the stop request fails.
+     * @param directory
+     * @param jarName
+     * @param archiveName
+     * @throws IOException
+     * @throws MojoExecutionException
+     */
+    private void train(Path directory, String jarName, String archiveName) throws IOException, MojoExecutionException {
+        List<String> command = new ArrayList<>(Arrays.asList(javaExecutable,
+                "-XX:ArchiveClassesAtExit=" + archiveName,
+                "-jar", jarName,
+                "--port", String.valueOf(trainingPort),
+                "--skipTests", "true",
+                "--duration", String.valueOf(2 * trainingTimeout),
+                "--stop-endpoint", "true"));
+        command.addAll(trainingArguments);
+
+        getLog().info("Starting server training run: " + String.join(" ", command));
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(directory.resolve("training.log").toFile())
+                .start();
+
+        try {
+            awaitServer(process);
+
+            for (String path : trainingRequests) {
+                ClassicHttpRequest request = ClassicRequestBuilder.get(getTrainingUrl() + path).build();
+                try (var response = getHttpClient().executeOpen(null, request, null)) {
+                    EntityUtils.consume(response.getEntity());
+                    getLog().debug(String.format("Training request %s - %d", path, response.getCode()));
+                }
+            }
+        } finally {
+            stopServer(process);
+        }
+    }
+
+    /**
+     * Stops the training run with the server stop endpoint and waits for the JVM to exit. Falls back to
+     * process termination when the stop request fails.
+     * @param process
+     * @throws MojoExecutionException
+     */
+    private void stopServer(Process process) throws MojoExecutionException {
+        if (process.isAlive()) {
+            ClassicHttpRequest request = ClassicRequestBuilder.post(getTrainingUrl() + "/stop").build();
+            try (var response = getHttpClient().executeOpen(null, request, null)) {
+                EntityUtils.consume(response.getEntity());
+                if (HttpStatus.SC_ACCEPTED != response.getCode()) {
+                    getLog().warn("Failed to stop server training run - status " + response.getCode());
+                    process.destroy();
+                }
+            } catch (IOException e) {
+                getLog().warn("Failed to stop server training run", e);
+                process.destroy();
+            }
+        }
+
+        try {
+            if (!process.waitFor(trainingTimeout, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new MojoExecutionException("Training run did not exit in time");
+            }
+
+            getLog().info("Server training run exited with code " + process.exitValue());
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while waiting for training run to exit", e);
+        }
+    }
+
+    private void awaitServer(Process process) throws MojoExecutionException {
+        long deadline = System.currentTimeMillis() + trainingTimeout;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new MojoExecutionException("Server training run terminated with exit code " + process.exitValue());
+            }
+
+            ClassicHttpRequest request = ClassicRequestBuilder.get(getTrainingUrl() + "/health").build();
+            try (var response = getHttpClient().executeOpen(null, request, null)) {
+                EntityUtils.consume(response.getEntity());
+                if (HttpStatus.SC_OK == response.getCode()) {
+                    return;
+                }
+            } catch (IOException e) {
+                getLog().debug("Waiting for server training run to start");
+            }
+
+            try {
+                Thread.sleep(500L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException("Interrupted while waiting for server training run", e);
+            }
+        }
+
+        throw new MojoExecutionException("Server training run did not start within " + trainingTimeout + " ms");
+    }
+
+    private String getTrainingUrl() {
+        return "http://localhost:" + trainingPort;
+    }
+
+    /**
+     * Zips given files keeping their modification time. The JVM refuses an archive when the jar timestamp differs
+     * from the training run, so the time must survive unpacking the distribution.
+     * @param distribution
+     * @param directory
+     * @param files
+     * @throws IOException
+     */
+    private static void createDistribution(Path distribution, Path directory, String... files) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(distribution))) {
+            for (String file : files) {
+                ZipEntry entry = new ZipEntry(file);
+                entry.setLastModifiedTime(Files.getLastModifiedTime(directory.resolve(file)));
+                zip.putNextEntry(entry);
+                Files.copy(directory.resolve(file), zip);
+                zip.closeEntry();
+            }
+        }
+    }
+}
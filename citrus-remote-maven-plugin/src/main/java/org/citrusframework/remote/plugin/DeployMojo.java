@@ -0,0 +1,321 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.plugin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.FileEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.citrusframework.remote.model.RemoteClasspath;
+import org.citrusframework.remote.model.RemoteLayer;
+import org.citrusframework.remote.model.RemoteLayerManifest;
+import org.citrusframework.remote.plugin.assembly.LayeredAssembly;
+import org.citrusframework.remote.plugin.config.TestJarConfiguration;
+import org.citrusframework.remote.util.Sha256;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Deploys the tests into a running remote server without restarting it. The test assembly is split into a third
+ * party dependency layer, a project dependency layer and a test classes layer. Only layers whose content hash the
+ * server does not know yet are uploaded, which usually is the small test classes layer only. Alternatively the thin
+ * test jar is deployed together with single dependency jars, uploading only jars missing in the server side jar cache.
+ * <p>
+ * The layers are built from the resolved test class path and the test jar configuration, whose test classes directory,
+ * includes and excludes select the content of the test classes layer. Assembly descriptors of the assembly based goals
+ * do not apply, as a descriptor may merge dependencies and test classes into one archive and the server could no longer
+ * tell the layers apart.
+ *
+ * @since 4.11
+ */
+@Mojo(name = "deploy", defaultPhase = LifecyclePhase.PRE_INTEGRATION_TEST, requiresDependencyResolution = ResolutionScope.TEST)
+public class DeployMojo extends AbstractCitrusRemoteMojo {
+
+    private static final ContentType APPLICATION_JAVA_ARCHIVE = ContentType.create("application/java-archive");
+
+    /** Deploy strategy uploading single jars to the server side jar cache */
+    private static final String STRATEGY_JARS = "jars";
+
+    @Parameter(property = "citrus.remote.skip.deploy", defaultValue = "false")
+    protected boolean skipDeploy;
+
+    @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
+    private List<MavenProject> reactorProjects;
+
+    @Parameter(defaultValue = "${project.build.testOutputDirectory}", required = true, readonly = true)
+    private File testClassesDirectory;
+
+    @Parameter
+    private TestJarConfiguration testJar;
+
+    /**
+     * Directory to write the layer archives to.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/citrus-remote/layers", required = true)
+    private File layersDirectory;
+
+    /**
+     * Deploy strategy. "layers" uploads changed layer archives, "jars" uploads a thin test jar plus the dependency
+     * jars missing in the jar cache the server shares between all projects.
+     */
+    @Parameter(property = "citrus.remote.deploy.strategy", defaultValue = "layers")
+    private String strategy = "layers";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void doExecute() throws MojoExecutionException, MojoFailureException {
+        if (skipDeploy) {
+            return;
+        }
+
+        try {
+            if (STRATEGY_JARS.equalsIgnoreCase(strategy)) {
+                deployJars();
+            } else {
+                deployLayers();
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to deploy tests to remote server", e);
+        }
+    }
+
+    /**
+     * Uploads the layers the server does not hold yet and activates the layered assembly.
+     * @throws IOException
+     * @throws MojoExecutionException
+     */
+    private void deployLayers() throws IOException, MojoExecutionException {
+        LayeredAssembly assembly = createLayeredAssembly();
+        List<String> missing = getMissing("/layers/missing", assembly.getManifest());
+
+        long uploaded = 0L;
+        long total = 0L;
+        for (RemoteLayer layer : assembly.getManifest().getLayers()) {
+            total += layer.getSize();
+            if (missing.contains(layer.getSha256())) {
+                upload("/layers/" + layer.getSha256(), "layer '" + layer.getName() + "'", assembly.getLayerFile(layer));
+                uploaded += layer.getSize();
+            } else {
+                getLog().debug(String.format("Layer '%s' is up to date on remote server", layer.getName()));
+            }
+        }
+
+        getLog().info(String.format("Uploaded %d of %d layers (%d of %d bytes)",
+                missing.size(), assembly.getManifest().getLayers().size(), uploaded, total));
+
+        activate("/testjar/layers", assembly.getManifest());
+    }
+
+    /**
+     * Uploads the thin test jar and the dependency jars missing in the server side jar cache and activates the
+     * resulting class path. Jars shared with other projects deployed to the same server are not uploaded again.
+     * @throws IOException
+     * @throws MojoExecutionException
+     */
+    private void deployJars() throws IOException, MojoExecutionException {
+        LayeredAssembly assembly = new LayeredAssembly(layersDirectory.toPath());
+        RemoteLayer testsLayer = assembly.addLayer(RemoteLayer.TESTS, getTestClassEntries());
+
+        RemoteClasspath classpath = new RemoteClasspath();
+        classpath.setTestJar(testsLayer.getSha256());
+
+        Map<String, Path> jars = new LinkedHashMap<>();
+        jars.put(testsLayer.getSha256(), assembly.getLayerFile(testsLayer));
+        for (Artifact artifact : getDependencyArtifacts()) {
+            Path jar = artifact.getFile().toPath();
+            String sha256 = Sha256.hex(jar);
+            jars.putIfAbsent(sha256, jar);
+            classpath.getDependencies().add(sha256);
+        }
+
+        List<String> missing = getMissing("/jars/missing", jars.keySet());
+
+        long uploaded = 0L;
+        long total = 0L;
+        for (Map.Entry<String, Path> jar : jars.entrySet()) {
+            long size = Files.size(jar.getValue());
+            total += size;
+            if (missing.contains(jar.getKey())) {
+                upload("/jars/" + jar.getKey(), "jar " + jar.getValue().getFileName(), jar.getValue());
+                uploaded += size;
+            }
+        }
+
+        getLog().info(String.format("Uploaded %d of %d jars (%d of %d bytes)",
+                missing.size(), jars.size(), uploaded, total));
+
+        activate("/testjar/classpath", classpath);
+    }
+
+    /**
+     * Splits the test class path into layers. Snapshot dependencies and dependencies on modules of the current
+     * build go into the project dependency layer, as they change far more often than released third party jars.
+     * @return
+     * @throws IOException
+     */
+    private LayeredAssembly createLayeredAssembly() throws IOException {
+        Set<String> reactorArtifacts = reactorProjects.stream()
+                .map(reactorProject -> reactorProject.getGroupId() + ":" + reactorProject.getArtifactId())
+                .collect(Collectors.toSet());
+
+        SortedMap<String, Path> dependencies = new TreeMap<>();
+        SortedMap<String, Path> projectDependencies = new TreeMap<>();
+        for (Artifact artifact : getDependencyArtifacts()) {
+            File file = artifact.getFile();
+            String entryName = "lib/" + artifact.getGroupId() + "-" + file.getName();
+            if (artifact.isSnapshot() || reactorArtifacts.contains(artifact.getGroupId() + ":" + artifact.getArtifactId())) {
+                projectDependencies.put(entryName, file.toPath());
+            } else {
+                dependencies.put(entryName, file.toPath());
+            }
+        }
+
+        LayeredAssembly assembly = new LayeredAssembly(layersDirectory.toPath());
+        if (!dependencies.isEmpty()) {
+            assembly.addLayer(RemoteLayer.DEPENDENCIES, dependencies);
+        }
+        if (!projectDependencies.isEmpty()) {
+            assembly.addLayer(RemoteLayer.PROJECT_DEPENDENCIES, projectDependencies);
+        }
+        assembly.addLayer(RemoteLayer.TESTS, getTestClassEntries());
+
+        return assembly;
+    }
+
+    /**
+     * Gets all resolved jar dependencies of the project test class path.
+     * @return
+     */
+    private List<Artifact> getDependencyArtifacts() {
+        return project.getArtifacts().stream()
+                .filter(artifact -> artifact.getFile() != null)
+                .filter(artifact -> artifact.getFile().isFile() && artifact.getFile().getName().endsWith(".jar"))
+                .toList();
+    }
+
+    private SortedMap<String, Path> getTestClassEntries() {
+        Path root = getTestJar().getTestClassesDirectory().toPath();
+        if (!Files.isDirectory(root)) {
+            getLog().warn("Tests layer will be empty - no test classes found in " + root);
+            return new TreeMap<>();
+        }
+
+        return LayeredAssembly.directoryEntries(root, getTestJar().getIncludes(), getTestJar().getExcludes());
+    }
+
+    private List<String> getMissing(String path, Object content) throws IOException, MojoExecutionException {
+        ClassicHttpRequest httpRequest = ClassicRequestBuilder.post(getServer().getUrl() + path)
+                .setEntity(new StringEntity(objectMapper.writeValueAsString(content), ContentType.APPLICATION_JSON))
+                .build();
+
+        try (var response = getHttpClient().executeOpen(null, httpRequest, null)) {
+            if (HttpStatus.SC_OK != response.getCode()) {
+                throw new MojoExecutionException("Failed to get missing content from remote server: " + EntityUtils.toString(response.getEntity()));
+            }
+
+            return Arrays.asList(objectMapper.readValue(response.getEntity().getContent(), String[].class));
+        } catch (ParseException e) {
+            throw new MojoExecutionException("Failed to read remote server response", e);
+        }
+    }
+
+    private void upload(String path, String displayName, Path file) throws IOException, MojoExecutionException {
+        getLog().info(String.format("Uploading %s (%d bytes)", displayName, Files.size(file)));
+
+        ClassicHttpRequest httpRequest = ClassicRequestBuilder.put(getServer().getUrl() + path)
+                .setEntity(new FileEntity(file.toFile(), APPLICATION_JAVA_ARCHIVE))
+                .build();
+
+        try (var response = getHttpClient().executeOpen(null, httpRequest, null)) {
+            if (HttpStatus.SC_CREATED != response.getCode()) {
+                throw new MojoExecutionException(String.format("Failed to upload %s to remote server: %s",
+                        displayName, EntityUtils.toString(response.getEntity())));
+            }
+        } catch (ParseException e) {
+            throw new MojoExecutionException("Failed to read remote server response", e);
+        }
+    }
+
+    private void activate(String path, Object content) throws IOException, MojoExecutionException {
+        ClassicHttpRequest httpRequest = ClassicRequestBuilder.post(getServer().getUrl() + path)
+                .setEntity(new StringEntity(objectMapper.writeValueAsString(content), ContentType.APPLICATION_JSON))
+                .build();
+
+        try (var response = getHttpClient().executeOpen(null, httpRequest, null)) {
+            String body = EntityUtils.toString(response.getEntity());
+            if (HttpStatus.SC_CREATED != response.getCode()) {
+                throw new MojoExecutionException("Failed to deploy tests to remote server: " + body);
+            }
+
+            getLog().info("Deployed tests to remote server: " + body);
+        } catch (ParseException e) {
+            throw new MojoExecutionException("Failed to read remote server response", e);
+        }
+    }
+
+    /**
+     * Gets the testJar.
+     *
+     * @return
+     */
+    public TestJarConfiguration getTestJar() {
+        if (testJar == null) {
+            testJar = new TestJarConfiguration();
+            testJar.setClassifier("tests");
+        }
+
+        if (testJar.getTestClassesDirectory() == null) {
+            testJar.setTestClassesDirectory(testClassesDirectory);
+        }
+
+        return testJar;
+    }
+
+    /**
+     * Sets the testJar.
+     *
+     * @param testJar
+     */
+    public void setTestJar(TestJarConfiguration testJar) {
+        this.testJar = testJar;
+    }
+}
@@ -18,6 +18,7 @@ package org.citrusframework.remote.plugin;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.utils.DateUtils;
 import org.apache.hc.core5.http.*;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
@@ -34,19 +35,43 @@ import org.citrusframework.TestResult;
 import org.citrusframework.TestSource;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.main.TestRunConfiguration;
+import org.citrusframework.remote.model.RemoteJobInfo;
+import org.citrusframework.remote.model.RemoteReportManifest;
 import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.model.RemoteResultDelta;
+import org.citrusframework.remote.controller.TestClassScanner;
+import org.citrusframework.remote.history.DurationHistory;
 import org.citrusframework.remote.plugin.config.RunConfiguration;
+import org.citrusframework.remote.plugin.shard.ShardPlanner;
+import org.citrusframework.remote.plugin.shard.SuiteReportMerger;
+import org.citrusframework.remote.transformer.ResultEncoding;
+import org.citrusframework.remote.util.Sha256;
 import org.citrusframework.report.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.net.URLEncoder;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static java.util.stream.Collectors.joining;
 
@@ -60,6 +85,9 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
     /** Global url encoding */
     private static final String ENCODING = "UTF-8";
 
+    /** Content type of the report archive */
+    private static final String APPLICATION_ZIP = "application/zip";
+
     @Parameter(property = "citrus.remote.skip.test", defaultValue = "false")
     protected boolean skipRun;
 
@@ -69,6 +97,21 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
     @Parameter
     private RunConfiguration run;
 
+    @Parameter(defaultValue = "${project.build.testOutputDirectory}", required = true, readonly = true)
+    private File testClassesDirectory;
+
+    /**
+     * File holding the recorded test class durations used to balance shards.
+     */
+    @Parameter(property = "citrus.remote.duration.history", defaultValue = "${project.build.directory}/citrus-remote/durations.properties")
+    private File durationHistoryFile;
+
+    /**
+     * Estimated duration in milliseconds of test classes without recorded duration history.
+     */
+    @Parameter(property = "citrus.remote.default.test.duration", defaultValue = "10000")
+    private long defaultTestDuration;
+
     /**
      * Object mapper for JSON response to object conversion.
      */
@@ -94,6 +137,10 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
             run = new RunConfiguration();
         }
 
+        if (getServer().getUrls().size() > 1 && runShards(getServer().getUrls())) {
+            return;
+        }
+
         if (!run.hasClasses() && !run.hasPackages()) {
             runAllTests();
         }
@@ -158,84 +205,273 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
     }
 
     /**
-     * Invokes run tests remote service and provide response message. If async mode is used the service is called with request method PUT
-     * that creates a new run job on the server. The test results are then polled with multiple requests instead of processing the single synchronous response.
-     *
-     * @param runConfiguration
+     * Splits the selected test classes into shards and runs the shards on all given servers at the same time.
+     * Shards are balanced by the test class durations recorded in previous runs.
+     * Results and report files of all shards are merged into a single summary. Returns false when the selected
+     * tests cannot be resolved to test classes, so the caller runs all tests on a single server instead.
+     * @param serverUrls
+     * @return
      * @throws MojoExecutionException
      */
-    private void runTests(TestRunConfiguration runConfiguration) throws MojoExecutionException {
+    private boolean runShards(List<String> serverUrls) throws MojoExecutionException {
+        List<String> testClasses = findTestClasses();
+        if (testClasses.isEmpty()) {
+            getLog().warn("Unable to resolve test classes for sharding - running tests on " + getServer().getUrl());
+            return false;
+        }
+
+        DurationHistory durationHistory = new DurationHistory(durationHistoryFile.toPath());
+        List<List<String>> shards = new ShardPlanner().plan(testClasses, serverUrls.size(),
+                testClass -> durationHistory.estimate(testClass, defaultTestDuration));
+        ExecutorService executor = Executors.newFixedThreadPool(shards.size());
         try {
-            ClassicRequestBuilder requestBuilder;
+            List<Future<RemoteRun>> running = new ArrayList<>();
+            for (int i = 0; i < shards.size(); i++) {
+                String serverUrl = serverUrls.get(i);
+                TestRunConfiguration runConfiguration = createShardConfiguration(shards.get(i));
+                getLog().info(String.format("Running %d test classes with estimated duration of %d ms on %s",
+                        shards.get(i).size(),
+                        shards.get(i).stream().mapToLong(testClass -> durationHistory.estimate(testClass, defaultTestDuration)).sum(),
+                        serverUrl));
+                running.add(executor.submit(() -> executeRun(serverUrl, runConfiguration)));
+            }
+
+            List<RemoteRun> runs = new ArrayList<>();
+            List<RemoteResult> results = new ArrayList<>();
+            for (Future<RemoteRun> shard : running) {
+                RemoteRun remoteRun = shard.get();
+                runs.add(remoteRun);
+                results.addAll(Arrays.asList(remoteRun.results()));
+            }
+
+            handleTestResults(results.toArray(RemoteResult[]::new));
+            saveShardReports(runs, shards);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while running tests on remote servers", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MojoExecutionException mojoExecutionException) {
+                throw mojoExecutionException;
+            }
+            throw new MojoExecutionException("Failed to run tests on remote servers", e.getCause());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to save test reports of remote servers", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            if (run.isAsync()) {
-                requestBuilder = ClassicRequestBuilder.put(getServer().getUrl() + "/run");
-            } else {
-                requestBuilder = ClassicRequestBuilder.post(getServer().getUrl() + "/run");
+    /**
+     * Resolves the selected classes and packages to test classes. Packages are scanned in the local test classes
+     * directory. Returns an empty list when selected packages hold no test classes locally.
+     * @return
+     */
+    private List<String> findTestClasses() {
+        List<String> testClasses = new ArrayList<>();
+        if (run.hasClasses()) {
+            testClasses.addAll(run.getClasses());
+        }
+
+        if (run.hasPackages() || !run.hasClasses()) {
+            if (!testClassesDirectory.isDirectory()) {
+                return Collections.emptyList();
             }
 
-            requestBuilder.addHeader(new BasicHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType()));
+            String[] includes = run.getIncludes() != null ? run.getIncludes().toArray(new String[0]) : null;
+            List<TestSource> tests = new TestClassScanner(testClassesDirectory, includes)
+                    .findTests(run.hasPackages() ? run.getPackages() : Collections.singletonList(""));
+            if (tests.isEmpty()) {
+                return Collections.emptyList();
+            }
 
-            StringEntity body = new StringEntity(objectMapper.writeValueAsString(runConfiguration), ContentType.APPLICATION_JSON);
-            requestBuilder.setEntity(body);
+            tests.stream()
+                    .map(TestSource::getName)
+                    .filter(testClass -> !testClasses.contains(testClass))
+                    .forEach(testClasses::add);
+        }
 
-            try (var response = getHttpClient().executeOpen(null, requestBuilder.build(), null)) {
-                if (HttpStatus.SC_OK != response.getCode()) {
-                    throw new MojoExecutionException("Failed to run tests on remote server: " + EntityUtils.toString(response.getEntity()));
-                }
+        return testClasses;
+    }
 
-                if (run.isAsync()) {
-                    handleTestResults(pollTestResults());
-                } else {
-                    handleTestResults(objectMapper.readValue(response.getEntity().getContent(), RemoteResult[].class));
+    private TestRunConfiguration createShardConfiguration(List<String> testClasses) {
+        TestRunConfiguration runConfiguration = new TestRunConfiguration();
+
+        runConfiguration.setEngine(run.getEngine());
+        runConfiguration.setTestSources(testClasses.stream()
+                .map(TestClass::fromString)
+                .map(TestSource.class::cast)
+                .toList());
+
+        if (run.getSystemProperties() != null) {
+            runConfiguration.addDefaultProperties(run.getSystemProperties());
+        }
+
+        return runConfiguration;
+    }
+
+    /**
+     * Loads the report files of each shard into a separate directory and merges them into the reports directory.
+     * Only the JUnit reports of the test classes a server ran in this shard are taken, so outdated reports of earlier
+     * runs on that server do not override the current ones. The suite reports of all shards are merged into one.
+     * @param runs
+     * @param shards
+     * @throws IOException
+     */
+    private void saveShardReports(List<RemoteRun> runs, List<List<String>> shards) throws IOException {
+        if (!getReport().isSaveReportFiles()) {
+            return;
+        }
+
+        File citrusReportsDirectory = getReportsDirectory();
+        Path junitReportsDirectory = citrusReportsDirectory.toPath().resolve("junitreports");
+        Files.createDirectories(junitReportsDirectory);
+
+        JUnitReporter jUnitReporter = new JUnitReporter();
+        String suiteReportFile = String.format(jUnitReporter.getReportFileNamePattern(), jUnitReporter.getSuiteName());
+
+        List<Path> suiteReports = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            File shardDirectory = new File(citrusReportsDirectory, "shards" + File.separator + i);
+            getAndSaveReports(runs.get(i).jobUrl(), shardDirectory);
+
+            for (String testClass : shards.get(i)) {
+                Path reportFile = shardDirectory.toPath().resolve("junitreports")
+                        .resolve(String.format(jUnitReporter.getReportFileNamePattern(), testClass));
+                if (Files.isRegularFile(reportFile)) {
+                    Files.copy(reportFile, junitReportsDirectory.resolve(reportFile.getFileName()),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
                 }
             }
-        } catch (IOException | ParseException e) {
-            throw new MojoExecutionException("Failed to run tests on remote server", e);
+
+            Path shardSuiteReport = shardDirectory.toPath().resolve(suiteReportFile);
+            if (Files.isRegularFile(shardSuiteReport)) {
+                suiteReports.add(shardSuiteReport);
+            }
         }
+
+        new SuiteReportMerger().merge(suiteReports, citrusReportsDirectory.toPath().resolve(suiteReportFile));
     }
 
     /**
-     * When using async test execution mode the client does not synchronously wait for test results as it might lead to read timeouts. Instead
-     * this method polls for test results and waits for the test execution to completely finish.
+     * Submits a test run job to the remote server and waits for its results. Reports are loaded from the job
+     * so concurrent runs on the same server never mix their report files.
      *
+     * @param runConfiguration
      * @throws MojoExecutionException
      */
-    private RemoteResult[] pollTestResults() throws MojoExecutionException, IOException {
-        ClassicHttpResponse response = null;
+    private void runTests(TestRunConfiguration runConfiguration) throws MojoExecutionException {
         try {
-            do {
-                if (response != null) {
-                    response.close();
-                }
+            RemoteRun remoteRun = executeRun(getServer().getUrl(), runConfiguration);
+            handleTestResults(remoteRun.results());
+            getAndSaveReports(remoteRun.jobUrl(), getReportsDirectory());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to run tests on remote server", e);
+        }
+    }
 
-                ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(getServer().getUrl() + "/results")
-                        .addHeader(new BasicHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType()))
-                        .addParameter("timeout", String.valueOf(run.getPollingInterval()))
-                        .build();
-                response = getHttpClient().executeOpen(null, httpRequest, null);
-
-                if (HttpStatus.SC_PARTIAL_CONTENT == response.getCode()) {
-                    getLog().info("Waiting for remote tests to finish ...");
-                    getLog().info(Stream.of(objectMapper.readValue(response.getEntity().getContent(), RemoteResult[].class))
-                            .map(RemoteResult::toTestResult)
-                            .map(RunTestMojo::parseResultToStringRepresentation)
-                            .collect(joining()));
+    /**
+     * Submits a test run job to given server and waits for the job results.
+     * @param serverUrl
+     * @param runConfiguration
+     * @return
+     * @throws MojoExecutionException
+     */
+    private RemoteRun executeRun(String serverUrl, TestRunConfiguration runConfiguration) throws MojoExecutionException {
+        try {
+            ClassicHttpRequest httpRequest = ClassicRequestBuilder.post(serverUrl + "/jobs")
+                    .addHeader(new BasicHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType()))
+                    .setEntity(new StringEntity(objectMapper.writeValueAsString(runConfiguration), ContentType.APPLICATION_JSON))
+                    .build();
+
+            String jobUrl;
+            try (var response = getHttpClient().executeOpen(null, httpRequest, null)) {
+                if (HttpStatus.SC_CREATED != response.getCode()) {
+                    throw new MojoExecutionException("Failed to run tests on remote server: " + EntityUtils.toString(response.getEntity()));
                 }
-            } while (HttpStatus.SC_PARTIAL_CONTENT == response.getCode());
 
-            if (HttpStatus.SC_OK != response.getCode()) {
-                throw new MojoExecutionException("Failed to get test results from remote server: " + EntityUtils.toString(response.getEntity()));
+                RemoteJobInfo job = objectMapper.readValue(response.getEntity().getContent(), RemoteJobInfo.class);
+                jobUrl = serverUrl + "/jobs/" + URLEncoder.encode(job.getId(), ENCODING);
             }
 
-            return objectMapper.readValue(response.getEntity().getContent(), RemoteResult[].class);
+            return new RemoteRun(jobUrl, pollTestResults(jobUrl));
         } catch (IOException | ParseException e) {
-            throw new MojoExecutionException("Failed to get test results from remote server", e);
-        } finally {
-            if (response != null) {
-                response.close();
+            throw new MojoExecutionException("Failed to run tests on remote server", e);
+        }
+    }
+
+    /**
+     * The client does not synchronously wait for the job results as it might lead to read timeouts. Instead this method polls
+     * for test results and waits for the test execution to completely finish. Each poll uses the sequence cursor of the
+     * previous response so the server only sends the results reported in the meantime. Progress is logged in async mode.
+     *
+     * @param jobUrl
+     * @throws MojoExecutionException
+     */
+    private RemoteResult[] pollTestResults(String jobUrl) throws MojoExecutionException {
+        List<RemoteResult> results = new ArrayList<>();
+        long since = 0L;
+        RemoteResultDelta delta;
+        do {
+            ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(jobUrl + "/results")
+                    .addHeader(new BasicHeader(HttpHeaders.ACCEPT, getAcceptedResultTypes()))
+                    .addParameter("since", String.valueOf(since))
+                    .addParameter("timeout", String.valueOf(run.getPollingInterval()))
+                    .build();
+
+            try (var response = getHttpClient().executeOpen(null, httpRequest, null)) {
+                if (HttpStatus.SC_OK != response.getCode() && HttpStatus.SC_PARTIAL_CONTENT != response.getCode()) {
+                    throw new MojoExecutionException("Failed to get test results from remote server: " + EntityUtils.toString(response.getEntity()));
+                }
+
+                delta = readResults(response, RemoteResultDelta.class);
+            } catch (IOException | ParseException e) {
+                throw new MojoExecutionException("Failed to get test results from remote server", e);
+            }
+
+            results.addAll(delta.getResults());
+            since = delta.getNext();
+
+            if (!delta.isCompleted() && run.isAsync()) {
+                getLog().info("Waiting for remote tests to finish ...");
+                getLog().info(delta.getResults().stream()
+                        .map(RemoteResult::toTestResult)
+                        .map(RunTestMojo::parseResultToStringRepresentation)
+                        .collect(joining()));
             }
+        } while (!delta.isCompleted());
+
+        return RemoteResult.latestAttempts(results).toArray(RemoteResult[]::new);
+    }
+
+    /**
+     * Accept header value asking for the configured result format. JSON is accepted as fallback for servers
+     * that do not support binary result encodings.
+     * @return
+     */
+    private String getAcceptedResultTypes() {
+        ResultEncoding encoding = ResultEncoding.fromName(run.getResultFormat());
+        if (encoding.isBinary()) {
+            return encoding.getMediaType() + ", " + ContentType.APPLICATION_JSON.getMimeType() + ";q=0.5";
         }
+
+        return encoding.getMediaType();
+    }
+
+    /**
+     * Reads the response body with the encoding given by the response content type.
+     * @param response
+     * @param type
+     * @return
+     * @param <T>
+     * @throws IOException
+     */
+    private <T> T readResults(ClassicHttpResponse response, Class<T> type) throws IOException {
+        ObjectMapper mapper = ResultEncoding.fromMediaType(response.getEntity().getContentType())
+                .filter(ResultEncoding::isBinary)
+                .map(ResultEncoding::getMapper)
+                .orElse(objectMapper);
+        return mapper.readValue(response.getEntity().getContent(), type);
     }
 
     /**
@@ -254,6 +490,11 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
         reporter.generate(testResults);
         getLog().info(resultWriter.toString());
 
+        Arrays.stream(results)
+                .filter(RemoteResult::isFlaky)
+                .forEach(result -> getLog().warn(String.format("Flaky test %s.%s passed after %d attempts",
+                        result.getTestClass(), result.getTestName(), result.getAttempts())));
+
         if (getReport().isHtmlReport()) {
             HtmlReporter htmlReporter = new HtmlReporter();
             htmlReporter.setReportDirectory(getOutputDirectory().getPath() + File.separator + getReport().getDirectory());
@@ -265,15 +506,42 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
         summaryReporter.setReportFileName(getReport().getSummaryFile());
         summaryReporter.generate(testResults);
 
-        getAndSaveReports();
+        new DurationHistory(durationHistoryFile.toPath()).record(Arrays.asList(results));
     }
 
-    private void getAndSaveReports() throws IOException {
+    /**
+     * Gets the local directory the report files are saved to.
+     * @return
+     */
+    private File getReportsDirectory() {
+        return new File(getOutputDirectory() + File.separator + getReport().getDirectory());
+    }
+
+    /**
+     * Loads the report files of the job at given url and saves them to the reports directory.
+     * @param jobUrl
+     * @param citrusReportsDirectory
+     * @throws IOException
+     */
+    private void getAndSaveReports(String jobUrl, File citrusReportsDirectory) throws IOException {
         if (!getReport().isSaveReportFiles()) {
             return;
         }
 
-        ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(getServer().getUrl() + "/results/files")
+        if (!citrusReportsDirectory.exists()&& !citrusReportsDirectory.mkdirs()) {
+            throw new CitrusRuntimeException("Unable to create reports output directory: " + citrusReportsDirectory.getPath());
+        }
+
+        File junitReportsDirectory = new File(citrusReportsDirectory, "junitreports");
+        if (!junitReportsDirectory.exists() && !junitReportsDirectory.mkdirs()) {
+            throw new CitrusRuntimeException("Unable to create JUnit reports directory: " + junitReportsDirectory.getPath());
+        }
+
+        if (syncReports(jobUrl, citrusReportsDirectory) || loadAndExtractReportArchive(jobUrl, citrusReportsDirectory)) {
+            return;
+        }
+
+        ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(jobUrl + "/results/files")
                 .addHeader(new BasicHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_XML.getMimeType()))
                 .build();
 
@@ -288,24 +556,14 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
             getLog().warn("Failed to get test reports from remote server", e);
         }
 
-        File citrusReportsDirectory = new File(getOutputDirectory() + File.separator + getReport().getDirectory());
-        if (!citrusReportsDirectory.exists()&& !citrusReportsDirectory.mkdirs()) {
-            throw new CitrusRuntimeException("Unable to create reports output directory: " + citrusReportsDirectory.getPath());
-        }
-
-        File junitReportsDirectory = new File(citrusReportsDirectory, "junitreports");
-        if (!junitReportsDirectory.exists() && !junitReportsDirectory.mkdirs()) {
-            throw new CitrusRuntimeException("Unable to create JUnit reports directory: " + junitReportsDirectory.getPath());
-        }
-
         JUnitReporter jUnitReporter = new JUnitReporter();
-        loadAndSaveReportFile(new File(citrusReportsDirectory, String.format(jUnitReporter.getReportFileNamePattern(), jUnitReporter.getSuiteName())), getServer().getUrl() + "/results/suite", ContentType.APPLICATION_XML.getMimeType());
+        loadAndSaveReportFile(new File(citrusReportsDirectory, String.format(jUnitReporter.getReportFileNamePattern(), jUnitReporter.getSuiteName())), jobUrl + "/results/suite", ContentType.APPLICATION_XML.getMimeType());
 
         Stream.of(reportFiles)
             .map(reportFile -> new File(junitReportsDirectory, reportFile))
             .forEach(reportFile -> {
                 try {
-                    loadAndSaveReportFile(reportFile, getServer().getUrl() + "/results/file/" + URLEncoder.encode(reportFile.getName(), ENCODING), ContentType.APPLICATION_XML.getMimeType());
+                    loadAndSaveReportFile(reportFile, jobUrl + "/results/file/" + URLEncoder.encode(reportFile.getName(), ENCODING), ContentType.APPLICATION_XML.getMimeType());
                 } catch (IOException e) {
                     getLog().warn("Failed to get report file: " + reportFile.getName(), e);
                 }
@@ -313,29 +571,225 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
     }
 
     /**
-     * Get report file content from server and save content to given file on local file system.
+     * Incremental report sync. Posts a manifest of the report files already present in given reports directory and
+     * extracts the archive of new and changed report files the server responds with. Returns false when the server
+     * does not provide the sync endpoint so the caller is able to fall back to loading all report files.
+     * @param jobUrl
+     * @param citrusReportsDirectory
+     * @return
+     */
+    private boolean syncReports(String jobUrl, File citrusReportsDirectory) {
+        try {
+            RemoteReportManifest manifest = createReportManifest(citrusReportsDirectory.toPath());
+            ClassicHttpRequest httpRequest = ClassicRequestBuilder.post(jobUrl + "/results/sync")
+                    .addHeader(new BasicHeader(HttpHeaders.ACCEPT, APPLICATION_ZIP))
+                    .setEntity(new StringEntity(objectMapper.writeValueAsString(manifest), ContentType.APPLICATION_JSON))
+                    .build();
+
+            try (var response = getHttpClient().executeOpen(null, httpRequest, null)) {
+                if (HttpStatus.SC_NO_CONTENT == response.getCode()) {
+                    getLog().info("All " + manifest.getFiles().size() + " report files are up to date");
+                    return true;
+                }
+
+                if (HttpStatus.SC_OK != response.getCode()) {
+                    getLog().debug("Report sync not available on remote server");
+                    return false;
+                }
+
+                int extracted = extractReportArchive(response.getEntity().getContent(), citrusReportsDirectory.toPath());
+                getLog().info("Synced " + extracted + " new or changed report files to " + citrusReportsDirectory);
+                return true;
+            }
+        } catch (IOException e) {
+            getLog().warn("Failed to sync report files with remote server", e);
+            return false;
+        }
+    }
+
+    /**
+     * Creates manifest of the suite report and JUnit report files present in given reports directory.
+     * @param citrusReportsDirectory
+     * @return
+     * @throws IOException
+     */
+    private RemoteReportManifest createReportManifest(Path citrusReportsDirectory) throws IOException {
+        RemoteReportManifest manifest = new RemoteReportManifest();
+
+        JUnitReporter jUnitReporter = new JUnitReporter();
+        String suiteReportFile = String.format(jUnitReporter.getReportFileNamePattern(), jUnitReporter.getSuiteName());
+        if (Files.isRegularFile(citrusReportsDirectory.resolve(suiteReportFile))) {
+            manifest.getFiles().put(suiteReportFile, Sha256.hex(citrusReportsDirectory.resolve(suiteReportFile)));
+        }
+
+        Path junitReportsDirectory = citrusReportsDirectory.resolve("junitreports");
+        if (Files.isDirectory(junitReportsDirectory)) {
+            try (DirectoryStream<Path> reportFiles = Files.newDirectoryStream(junitReportsDirectory, Files::isRegularFile)) {
+                for (Path reportFile : reportFiles) {
+                    manifest.getFiles().put("junitreports/" + reportFile.getFileName(), Sha256.hex(reportFile));
+                }
+            }
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Loads all report files with a single request to the report archive endpoint and extracts the archive into
+     * given reports directory. Returns false when the server does not provide the archive endpoint so the caller is
+     * able to fall back to loading the report files one by one.
+     * @param jobUrl
+     * @param citrusReportsDirectory
+     * @return
+     */
+    private boolean loadAndExtractReportArchive(String jobUrl, File citrusReportsDirectory) {
+        ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(jobUrl + "/results/archive")
+                .addHeader(new BasicHeader(HttpHeaders.ACCEPT, APPLICATION_ZIP))
+                .build();
+
+        try (var response = getHttpClient().executeOpen(null, httpRequest, null)) {
+            if (HttpStatus.SC_OK != response.getCode()) {
+                getLog().debug("Report archive not available on remote server - loading report files one by one");
+                return false;
+            }
+
+            int extracted = extractReportArchive(response.getEntity().getContent(), citrusReportsDirectory.toPath());
+            getLog().info("Extracted " + extracted + " report files to " + citrusReportsDirectory);
+            return true;
+        } catch (IOException e) {
+            getLog().warn("Failed to load report archive from remote server - loading report files one by one", e);
+            return false;
+        }
+    }
+
+    /**
+     * Extracts the zip archive read from given stream into the target directory. Entries resolving to a location
+     * outside the target directory are rejected.
+     * @param archive
+     * @param targetDirectory
+     * @return number of extracted files
+     * @throws IOException
+     */
+    private int extractReportArchive(InputStream archive, Path targetDirectory) throws IOException {
+        Path target = targetDirectory.toAbsolutePath().normalize();
+        int extracted = 0;
+        try (ZipInputStream zip = new ZipInputStream(archive)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Path file = target.resolve(entry.getName()).normalize();
+                if (!file.startsWith(target)) {
+                    throw new IOException("Report archive entry is outside of target directory: " + entry.getName());
+                }
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(file);
+                    continue;
+                }
+
+                Files.createDirectories(file.getParent());
+                Files.copy(zip, file, StandardCopyOption.REPLACE_EXISTING);
+                if (entry.getLastModifiedTime() != null) {
+                    Files.setLastModifiedTime(file, entry.getLastModifiedTime());
+                }
+                extracted++;
+            }
+        }
+
+        return extracted;
+    }
+
+    /**
+     * Get report file content from server and save content to given file on local file system. When the file already exists
+     * locally the request is conditional on the modification time of the local file, so unchanged files are not transferred again.
+     * Content is downloaded to a partial file first. Interrupted downloads are retried and resume with a range request guarded
+     * by the validator of the first response, so the server sends the complete file again when it has changed in the meantime.
+     * Saved files get the server's last modified time.
      * @param reportFile
      * @param serverUrl
      * @param contentType
      */
     private void loadAndSaveReportFile(File reportFile, String serverUrl, String contentType) {
-        ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(serverUrl)
-                .addHeader(new BasicHeader(HttpHeaders.ACCEPT, contentType))
-                .build();
+        Path partFile = reportFile.toPath().resolveSibling(reportFile.getName() + ".part");
+        String validator = null;
+
+        for (int attempt = 0; attempt <= getReport().getDownloadRetries(); attempt++) {
+            try {
+                ClassicRequestBuilder requestBuilder = ClassicRequestBuilder.get(serverUrl)
+                        .addHeader(new BasicHeader(HttpHeaders.ACCEPT, contentType));
+
+                long resumeFrom = validator != null && Files.isRegularFile(partFile) ? Files.size(partFile) : 0L;
+                if (resumeFrom > 0L) {
+                    requestBuilder.addHeader(new BasicHeader(HttpHeaders.RANGE, "bytes=" + resumeFrom + "-"));
+                    requestBuilder.addHeader(new BasicHeader(HttpHeaders.IF_RANGE, validator));
+                } else if (reportFile.isFile()) {
+                    requestBuilder.addHeader(new BasicHeader(HttpHeaders.IF_MODIFIED_SINCE,
+                            DateUtils.formatStandardDate(Instant.ofEpochMilli(reportFile.lastModified()))));
+                }
 
-        try (var fileResponse = getHttpClient().executeOpen(null, httpRequest, null)) {
-            if (HttpStatus.SC_OK != fileResponse.getCode()) {
-                getLog().warn("Failed to get report file: " + reportFile.getName());
-                return;
+                try (var fileResponse = getHttpClient().executeOpen(null, requestBuilder.build(), null)) {
+                    if (HttpStatus.SC_NOT_MODIFIED == fileResponse.getCode()) {
+                        getLog().debug("Report file is up to date: " + reportFile);
+                        return;
+                    }
+
+                    boolean resumed = HttpStatus.SC_PARTIAL_CONTENT == fileResponse.getCode()
+                            && isContentRangeFrom(fileResponse, resumeFrom);
+                    if (HttpStatus.SC_OK != fileResponse.getCode() && !resumed) {
+                        getLog().warn("Failed to get report file: " + reportFile.getName());
+                        Files.deleteIfExists(partFile);
+                        return;
+                    }
+
+                    validator = Optional.ofNullable(fileResponse.getFirstHeader(HttpHeaders.ETAG))
+                            .or(() -> Optional.ofNullable(fileResponse.getFirstHeader(HttpHeaders.LAST_MODIFIED)))
+                            .map(Header::getValue)
+                            .orElse(null);
+
+                    if (resumed) {
+                        getLog().info("Resuming report file download at byte " + resumeFrom + ": " + reportFile);
+                        try (OutputStream out = Files.newOutputStream(partFile, StandardOpenOption.APPEND)) {
+                            fileResponse.getEntity().getContent().transferTo(out);
+                        }
+                    } else {
+                        getLog().info("Writing report file: " + reportFile);
+                        Files.copy(fileResponse.getEntity().getContent(), partFile, StandardCopyOption.REPLACE_EXISTING);
+                    }
+
+                    Files.move(partFile, reportFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+                    Optional.ofNullable(fileResponse.getFirstHeader(HttpHeaders.LAST_MODIFIED))
+                            .map(Header::getValue)
+                            .map(DateUtils::parseStandardDate)
+                            .ifPresent(lastModified -> {
+                                if (!reportFile.setLastModified(lastModified.toEpochMilli())) {
+                                    getLog().debug("Unable to set last modified time of report file: " + reportFile);
+                                }
+                            });
+                    return;
+                }
+            } catch (IOException e) {
+                if (attempt < getReport().getDownloadRetries()) {
+                    getLog().warn("Interrupted download of report file: " + reportFile.getName() + " - retrying");
+                } else {
+                    getLog().warn("Failed to get report file: " + reportFile.getName(), e);
+                }
             }
-
-            getLog().info("Writing report file: " + reportFile);
-            Files.write(reportFile.toPath(), fileResponse.getEntity().getContent().readAllBytes(), StandardOpenOption.CREATE);
-        } catch (IOException e) {
-            getLog().warn("Failed to get report file: " + reportFile.getName(), e);
         }
     }
 
+    /**
+     * Checks that the partial content response starts at the given byte position.
+     * @param response
+     * @param position
+     * @return
+     */
+    private static boolean isContentRangeFrom(ClassicHttpResponse response, long position) {
+        return Optional.ofNullable(response.getFirstHeader(HttpHeaders.CONTENT_RANGE))
+                .map(Header::getValue)
+                .filter(contentRange -> contentRange.startsWith("bytes " + position + "-"))
+                .isPresent();
+    }
+
     /**
      * Sets the tests.
      *
@@ -344,4 +798,12 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
     public void setTests(RunConfiguration tests) {
         this.run = tests;
     }
+
+    /**
+     * Test run job submitted to a remote server together with its results.
+     * @param jobUrl
+     * @param results
+     */
+    private record RemoteRun(String jobUrl, RemoteResult[] results) {
+    }
 }
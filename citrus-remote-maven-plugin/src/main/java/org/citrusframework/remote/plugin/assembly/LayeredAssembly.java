@@ -0,0 +1,142 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.plugin.assembly;
+
+import org.citrusframework.remote.model.RemoteLayer;
+import org.citrusframework.remote.model.RemoteLayerManifest;
+import org.citrusframework.remote.util.Sha256;
+import org.codehaus.plexus.util.DirectoryScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Test assembly split into content addressed layers. Layer archives are written reproducibly with sorted entries
+ * and fixed timestamps, so unchanged content always results in the same layer hash and the remote server is able
+ * to skip layers it already holds.
+ *
+ * @since 4.11
+ */
+public class LayeredAssembly {
+
+    /** Fixed entry time, local date time so the hash does not depend on the time zone of the build */
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+    private final Path directory;
+
+    private final RemoteLayerManifest manifest = new RemoteLayerManifest();
+    private final Map<String, Path> layerFiles = new HashMap<>();
+
+    /**
+     * Constructor using the directory to write layer archives to.
+     * @param directory
+     */
+    public LayeredAssembly(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes a layer archive holding given entries and adds it to this assembly. Entry names ending with a slash
+     * are added as directory entries.
+     * @param name
+     * @param entries layer entries by entry name, the value is the file to add or null for directory entries
+     * @return
+     * @throws IOException
+     */
+    public RemoteLayer addLayer(String name, SortedMap<String, Path> entries) throws IOException {
+        Files.createDirectories(directory);
+        Path layerFile = directory.resolve(name + ".jar");
+
+        MessageDigest digest = Sha256.newDigest();
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(layerFile), digest);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                zipEntry.setTimeLocal(ENTRY_TIME);
+                zip.putNextEntry(zipEntry);
+                if (entry.getValue() != null) {
+                    Files.copy(entry.getValue(), zip);
+                }
+                zip.closeEntry();
+            }
+        }
+
+        RemoteLayer layer = new RemoteLayer(name, Sha256.hex(digest), Files.size(layerFile));
+        manifest.getLayers().add(layer);
+        layerFiles.put(layer.getSha256(), layerFile);
+        return layer;
+    }
+
+    /**
+     * Collects the files and directories below given root directory as layer entries. Optional include and exclude
+     * patterns are Ant style patterns relative to the root directory, default excludes such as version control files
+     * always apply.
+     * @param root
+     * @param includes
+     * @param excludes
+     * @return layer entries by entry name, directory entries end with a slash and have no file
+     */
+    public static SortedMap<String, Path> directoryEntries(Path root, String[] includes, String[] excludes) {
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setBasedir(root.toFile());
+        scanner.setIncludes(includes);
+        scanner.setExcludes(excludes);
+        scanner.addDefaultExcludes();
+        scanner.scan();
+
+        SortedMap<String, Path> entries = new TreeMap<>();
+        for (String dir : scanner.getIncludedDirectories()) {
+            if (!dir.isEmpty()) {
+                entries.put(dir.replace(File.separatorChar, '/') + "/", null);
+            }
+        }
+        for (String file : scanner.getIncludedFiles()) {
+            entries.put(file.replace(File.separatorChar, '/'), root.resolve(file));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Gets the archive file of given layer.
+     * @param layer
+     * @return
+     */
+    public Path getLayerFile(RemoteLayer layer) {
+        return layerFiles.get(layer.getSha256());
+    }
+
+    /**
+     * Gets the manifest listing all layers of this assembly.
+     * @return
+     */
+    public RemoteLayerManifest getManifest() {
+        return manifest;
+    }
+}
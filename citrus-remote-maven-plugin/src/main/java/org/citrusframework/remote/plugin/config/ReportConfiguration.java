@@ -50,6 +50,12 @@ public class ReportConfiguration implements Serializable {
     @Parameter(property = "citrus.report.save.files", defaultValue = "true")
     private boolean saveReportFiles = true;
 
+    /**
+     * Number of retries for interrupted report file downloads. Retries resume the download where it stopped.
+     */
+    @Parameter(property = "citrus.report.download.retries", defaultValue = "3")
+    private int downloadRetries = 3;
+
     /**
      * Gets the summaryFile.
      *
@@ -121,4 +127,22 @@ public class ReportConfiguration implements Serializable {
     public void setSaveReportFiles(boolean saveReportFiles) {
         this.saveReportFiles = saveReportFiles;
     }
+
+    /**
+     * Gets the downloadRetries.
+     *
+     * @return
+     */
+    public int getDownloadRetries() {
+        return downloadRetries;
+    }
+
+    /**
+     * Sets the downloadRetries.
+     *
+     * @param downloadRetries
+     */
+    public void setDownloadRetries(int downloadRetries) {
+        this.downloadRetries = downloadRetries;
+    }
 }
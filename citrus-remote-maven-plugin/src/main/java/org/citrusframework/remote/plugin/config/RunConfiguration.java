@@ -48,6 +48,9 @@ public class RunConfiguration {
     @Parameter(property = "citrus.remote.run.engine", defaultValue = "junit4")
     private String engine;
 
+    @Parameter(property = "citrus.remote.run.result.format", defaultValue = "cbor")
+    private String resultFormat = "cbor";
+
     /**
      * Gets the classes.
      *
@@ -187,4 +190,22 @@ public class RunConfiguration {
     public void setEngine(String engine) {
         this.engine = engine;
     }
+
+    /**
+     * Gets the resultFormat.
+     *
+     * @return
+     */
+    public String getResultFormat() {
+        return resultFormat;
+    }
+
+    /**
+     * Sets the resultFormat.
+     *
+     * @param resultFormat
+     */
+    public void setResultFormat(String resultFormat) {
+        this.resultFormat = resultFormat;
+    }
 }
@@ -19,6 +19,8 @@ package org.citrusframework.remote.plugin.config;
 import org.apache.maven.plugins.annotations.Parameter;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Christoph Deppisch
@@ -29,6 +31,12 @@ public class ServerConfiguration implements Serializable {
     @Parameter(property = "citrus.remote.server.url", required = true, defaultValue = "http://localhost:8686")
     private String url = "http://localhost:8686";
 
+    /**
+     * Urls of several identical servers. Tests get sharded across all servers when more than one url is given.
+     */
+    @Parameter(property = "citrus.remote.server.urls")
+    private List<String> urls;
+
     /**
      * Gets the url.
      *
@@ -46,4 +54,26 @@ public class ServerConfiguration implements Serializable {
     public void setUrl(String url) {
         this.url = url;
     }
+
+    /**
+     * Gets the urls of all servers to run tests on. Falls back to the single server url when no url list is given.
+     *
+     * @return
+     */
+    public List<String> getUrls() {
+        if (urls == null || urls.isEmpty()) {
+            return Collections.singletonList(url);
+        }
+
+        return urls;
+    }
+
+    /**
+     * Sets the urls.
+     *
+     * @param urls
+     */
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.plugin.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits test classes into shards for running them on several remote servers at the same time. Shards are balanced
+ * by estimated test class duration with the longest processing time first algorithm: test classes are assigned
+ * longest first, each to the shard with the least estimated total duration so far.
+ *
+ * @since 4.11
+ */
+public class ShardPlanner {
+
+    /**
+     * Distributes given test classes evenly by count across the given number of shards. Empty shards are omitted.
+     * @param testClasses
+     * @param shards
+     * @return
+     */
+    public List<List<String>> plan(List<String> testClasses, int shards) {
+        return plan(testClasses, shards, testClass -> 1L);
+    }
+
+    /**
+     * Distributes given test classes across the given number of shards so that the estimated durations of all
+     * shards are about the same. Empty shards are omitted.
+     * @param testClasses
+     * @param shards
+     * @param estimate estimated duration of a test class
+     * @return
+     */
+    public List<List<String>> plan(List<String> testClasses, int shards, ToLongFunction<String> estimate) {
+        List<Shard> plan = new ArrayList<>();
+        PriorityQueue<Shard> leastLoaded = new PriorityQueue<>(
+                Comparator.comparingLong(Shard::getLoad).thenComparingInt(Shard::getIndex));
+        for (int i = 0; i < shards; i++) {
+            Shard shard = new Shard(i);
+            plan.add(shard);
+            leastLoaded.add(shard);
+        }
+
+        testClasses.stream()
+                .sorted(Comparator.comparingLong(estimate).reversed())
+                .forEach(testClass -> {
+                    Shard shard = leastLoaded.poll();
+                    shard.add(testClass, Math.max(1L, estimate.applyAsLong(testClass)));
+                    leastLoaded.add(shard);
+                });
+
+        return plan.stream()
+                .map(Shard::getTestClasses)
+                .filter(shard -> !shard.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Test classes of a shard with their estimated total duration.
+     */
+    private static final class Shard {
+        private final int index;
+        private final List<String> testClasses = new ArrayList<>();
+        private long load;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+
+        private void add(String testClass, long estimate) {
+            testClasses.add(testClass);
+            load += estimate;
+        }
+
+        private int getIndex() {
+            return index;
+        }
+
+        private long getLoad() {
+            return load;
+        }
+
+        private List<String> getTestClasses() {
+            return testClasses;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.plugin.shard;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Merges the JUnit suite reports of several shards into a single suite report. Test cases of all shards are added
+ * to the first report and the test counters and times of the suite are summed up.
+ *
+ * @since 4.11
+ */
+public class SuiteReportMerger {
+
+    /** Suite attributes holding counters to sum up */
+    private static final List<String> COUNTERS = List.of("tests", "failures", "errors", "skipped");
+
+    /**
+     * Merges given suite reports into the target file.
+     * @param suiteReports
+     * @param target
+     * @throws IOException
+     */
+    public void merge(List<Path> suiteReports, Path target) throws IOException {
+        if (suiteReports.isEmpty()) {
+            return;
+        }
+
+        try {
+            DocumentBuilder documentBuilder = createDocumentBuilder();
+            Document merged = documentBuilder.parse(suiteReports.get(0).toFile());
+            Element suite = merged.getDocumentElement();
+
+            for (Path suiteReport : suiteReports.subList(1, suiteReports.size())) {
+                Element shardSuite = documentBuilder.parse(suiteReport.toFile()).getDocumentElement();
+
+                for (String counter : COUNTERS) {
+                    if (suite.hasAttribute(counter) || shardSuite.hasAttribute(counter)) {
+                        suite.setAttribute(counter, String.valueOf(
+                                parseLong(suite.getAttribute(counter)) + parseLong(shardSuite.getAttribute(counter))));
+                    }
+                }
+
+                if (suite.hasAttribute("time") || shardSuite.hasAttribute("time")) {
+                    // shards run at the same time, so the suite takes as long as the slowest shard
+                    suite.setAttribute("time", String.valueOf(Math.max(
+                            parseDouble(suite.getAttribute("time")), parseDouble(shardSuite.getAttribute("time")))));
+                }
+
+                for (Node child = shardSuite.getFirstChild(); child != null; child = child.getNextSibling()) {
+                    if (child.getNodeType() == Node.ELEMENT_NODE) {
+                        suite.appendChild(merged.importNode(child, true));
+                    }
+                }
+            }
+
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.transform(new DOMSource(merged), new StreamResult(target.toFile()));
+        } catch (ParserConfigurationException | SAXException | TransformerException e) {
+            throw new IOException("Failed to merge suite reports", e);
+        }
+    }
+
+    private static DocumentBuilder createDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        return factory.newDocumentBuilder();
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value == null || value.isBlank() ? 0L : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return value == null || value.isBlank() ? 0D : Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0D;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.plugin.assembly;
+
+import org.citrusframework.remote.model.RemoteLayer;
+import org.citrusframework.remote.util.Sha256;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+public class LayeredAssemblyTest {
+
+    private Path directory;
+    private Path testClasses;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("citrus-remote-assembly");
+        testClasses = directory.resolve("test-classes");
+        Files.createDirectories(testClasses.resolve("org/example"));
+        Files.writeString(testClasses.resolve("org/example/FooIT.class"), "foo");
+        Files.writeString(testClasses.resolve("org/example/BarIT.class"), "bar");
+        Files.writeString(testClasses.resolve("citrus-application.properties"), "citrus.default.src.directory=src");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldCollectDirectoryEntries() {
+        SortedMap<String, Path> entries = LayeredAssembly.directoryEntries(testClasses, null, null);
+
+        assertEquals(List.copyOf(entries.keySet()), Arrays.asList(
+                "citrus-application.properties",
+                "org/",
+                "org/example/",
+                "org/example/BarIT.class",
+                "org/example/FooIT.class"));
+        assertNull(entries.get("org/example/"));
+        assertEquals(entries.get("org/example/FooIT.class"), testClasses.resolve("org/example/FooIT.class"));
+    }
+
+    @Test
+    public void shouldApplyIncludesAndExcludes() {
+        SortedMap<String, Path> entries = LayeredAssembly.directoryEntries(testClasses,
+                new String[] { "org/**" }, new String[] { "**/BarIT.class" });
+
+        assertEquals(List.copyOf(entries.keySet()), Arrays.asList(
+                "org/",
+                "org/example/",
+                "org/example/FooIT.class"));
+    }
+
+    @Test
+    public void shouldWriteReproducibleLayers() throws IOException {
+        SortedMap<String, Path> entries = LayeredAssembly.directoryEntries(testClasses, null, null);
+
+        RemoteLayer first = new LayeredAssembly(directory.resolve("first")).addLayer(RemoteLayer.TESTS, entries);
+        Files.setLastModifiedTime(testClasses.resolve("org/example/FooIT.class"), FileTime.from(Instant.EPOCH));
+        RemoteLayer second = new LayeredAssembly(directory.resolve("second")).addLayer(RemoteLayer.TESTS, entries);
+
+        assertEquals(second.getSha256(), first.getSha256());
+        assertEquals(second.getSize(), first.getSize());
+
+        Files.writeString(testClasses.resolve("org/example/FooIT.class"), "changed");
+        LayeredAssembly changed = new LayeredAssembly(directory.resolve("changed"));
+        RemoteLayer third = changed.addLayer(RemoteLayer.TESTS, entries);
+
+        assertNotEquals(third.getSha256(), first.getSha256());
+        assertEquals(Sha256.hex(changed.getLayerFile(third)), third.getSha256());
+        assertEquals(changed.getManifest().getLayers(), List.of(third));
+    }
+}
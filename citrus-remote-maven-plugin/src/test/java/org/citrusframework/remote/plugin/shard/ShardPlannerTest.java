@@ -0,0 +1,77 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.plugin.shard;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ShardPlannerTest {
+
+    private final ShardPlanner planner = new ShardPlanner();
+
+    @Test
+    public void shouldDistributeByCount() {
+        List<List<String>> plan = planner.plan(List.of("A", "B", "C", "D", "E"), 2);
+
+        assertEquals(plan, List.of(List.of("A", "C", "E"), List.of("B", "D")));
+    }
+
+    @Test
+    public void shouldOmitEmptyShards() {
+        assertEquals(planner.plan(List.of("A", "B"), 4), List.of(List.of("A"), List.of("B")));
+        assertTrue(planner.plan(List.of("A", "B"), 0).isEmpty());
+        assertTrue(planner.plan(List.of(), 3).isEmpty());
+    }
+
+    @Test
+    public void shouldBalanceLongestProcessingTimeFirst() {
+        Map<String, Long> durations = Map.of("A", 7L, "B", 6L, "C", 5L, "D", 4L, "E", 3L, "F", 2L);
+
+        List<List<String>> plan = planner.plan(List.of("F", "E", "D", "C", "B", "A"), 2, durations::get);
+
+        assertEquals(plan, List.of(List.of("A", "D", "E"), List.of("B", "C", "F")));
+        assertEquals(load(plan.get(0), durations), 14L);
+        assertEquals(load(plan.get(1), durations), 13L);
+    }
+
+    @Test
+    public void shouldIsolateLongRunningTestClass() {
+        Map<String, Long> durations = Map.of("Long", 100L, "a", 10L, "b", 10L, "c", 10L, "d", 10L);
+
+        List<List<String>> plan = planner.plan(List.of("a", "b", "Long", "c", "d"), 3, durations::get);
+
+        assertEquals(plan, List.of(List.of("Long"), List.of("a", "c"), List.of("b", "d")));
+    }
+
+    @Test
+    public void shouldCountUnknownDurationsAsMinimalLoad() {
+        Map<String, Long> durations = Map.of("A", 0L, "B", 0L, "C", 0L, "D", 0L);
+
+        List<List<String>> plan = planner.plan(List.of("A", "B", "C", "D"), 2, durations::get);
+
+        assertEquals(plan, List.of(List.of("A", "C"), List.of("B", "D")));
+    }
+
+    private static long load(List<String> shard, Map<String, Long> durations) {
+        return shard.stream().mapToLong(durations::get).sum();
+    }
+}
@@ -18,6 +18,9 @@ package org.citrusframework.remote;
 
 import org.citrusframework.main.CitrusAppConfiguration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
@@ -27,6 +30,57 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
     /** Server port */
     private int port = 4567;
 
+    /** Number of application verticle instances sharing the server port */
+    private int instances = Runtime.getRuntime().availableProcessors();
+
+    /** Compress responses with gzip or deflate when clients accept it */
+    private boolean compression = true;
+
+    /** Compression level between 1 (fast) and 9 (best) */
+    private int compressionLevel = 6;
+
+    /** Responses smaller than this number of bytes are sent uncompressed */
+    private int compressionThreshold = 1024;
+
+    /** Maximum number of test jobs running at the same time */
+    private int maxConcurrentJobs = Runtime.getRuntime().availableProcessors();
+
+    /** Maximum number of test jobs waiting for execution before new jobs get rejected */
+    private int jobQueueCapacity = 50;
+
+    /** Run test jobs and blocking endpoint work on virtual threads when supported by the Java runtime */
+    private boolean virtualThreads;
+
+    /** Virtual threads pinned to their carrier thread longer than this threshold get reported */
+    private long pinnedThreshold = 20L;
+
+    /** Initialize the Citrus context and its endpoints on server startup so that test runs start warm */
+    private boolean warmup;
+
+    /** Number of workers running the test classes of a job in parallel, one runs all tests sequentially */
+    private int parallelWorkers = 1;
+
+    /** Estimated duration in milliseconds of test classes without recorded duration history */
+    private long defaultTestDuration = 10000L;
+
+    /** Directory holding all persistent server state such as deployments, jar cache, history and job results */
+    private String dataDirectory = "target/citrus-remote";
+
+    /** Store for the test results of jobs, either "file" to keep results across restarts or "memory" */
+    private String resultStore = "file";
+
+    /** Interval in milliseconds the file result store syncs written results to disk */
+    private long resultSyncInterval = 200L;
+
+    /** Maximum number of attempts of a failed test within a job, one disables retries */
+    private int retryAttempts = 1;
+
+    /** Failure cause types to retry, all failures get retried when empty */
+    private List<String> retryCauses = new ArrayList<>();
+
+    /** Expose the stop endpoint so clients are able to shut down the server gracefully */
+    private boolean stopEndpoint;
+
     /**
      * Gets the port.
      *
@@ -45,6 +99,312 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
         this.port = port;
     }
 
+    /**
+     * Gets the instances.
+     *
+     * @return
+     */
+    public int getInstances() {
+        return instances;
+    }
+
+    /**
+     * Sets the instances.
+     *
+     * @param instances
+     */
+    public void setInstances(int instances) {
+        this.instances = instances;
+    }
+
+    /**
+     * Gets the compression.
+     *
+     * @return
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets the compression.
+     *
+     * @param compression
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Gets the compressionLevel.
+     *
+     * @return
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Sets the compressionLevel.
+     *
+     * @param compressionLevel
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Gets the compressionThreshold.
+     *
+     * @return
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Sets the compressionThreshold.
+     *
+     * @param compressionThreshold
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Gets the maxConcurrentJobs.
+     *
+     * @return
+     */
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    /**
+     * Sets the maxConcurrentJobs.
+     *
+     * @param maxConcurrentJobs
+     */
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    /**
+     * Gets the jobQueueCapacity.
+     *
+     * @return
+     */
+    public int getJobQueueCapacity() {
+        return jobQueueCapacity;
+    }
+
+    /**
+     * Sets the jobQueueCapacity.
+     *
+     * @param jobQueueCapacity
+     */
+    public void setJobQueueCapacity(int jobQueueCapacity) {
+        this.jobQueueCapacity = jobQueueCapacity;
+    }
+
+    /**
+     * Gets the virtualThreads.
+     *
+     * @return
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets the virtualThreads.
+     *
+     * @param virtualThreads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Gets the pinnedThreshold.
+     *
+     * @return
+     */
+    public long getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    /**
+     * Sets the pinnedThreshold.
+     *
+     * @param pinnedThreshold
+     */
+    public void setPinnedThreshold(long pinnedThreshold) {
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    /**
+     * Gets the warmup.
+     *
+     * @return
+     */
+    public boolean isWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Sets the warmup.
+     *
+     * @param warmup
+     */
+    public void setWarmup(boolean warmup) {
+        this.warmup = warmup;
+    }
+
+    /**
+     * Gets the parallelWorkers.
+     *
+     * @return
+     */
+    public int getParallelWorkers() {
+        return parallelWorkers;
+    }
+
+    /**
+     * Sets the parallelWorkers.
+     *
+     * @param parallelWorkers
+     */
+    public void setParallelWorkers(int parallelWorkers) {
+        this.parallelWorkers = parallelWorkers;
+    }
+
+    /**
+     * Gets the defaultTestDuration.
+     *
+     * @return
+     */
+    public long getDefaultTestDuration() {
+        return defaultTestDuration;
+    }
+
+    /**
+     * Sets the defaultTestDuration.
+     *
+     * @param defaultTestDuration
+     */
+    public void setDefaultTestDuration(long defaultTestDuration) {
+        this.defaultTestDuration = defaultTestDuration;
+    }
+
+    /**
+     * Gets the dataDirectory.
+     *
+     * @return
+     */
+    public String getDataDirectory() {
+        return dataDirectory;
+    }
+
+    /**
+     * Sets the dataDirectory.
+     *
+     * @param dataDirectory
+     */
+    public void setDataDirectory(String dataDirectory) {
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * Gets the resultStore.
+     *
+     * @return
+     */
+    public String getResultStore() {
+        return resultStore;
+    }
+
+    /**
+     * Sets the resultStore.
+     *
+     * @param resultStore
+     */
+    public void setResultStore(String resultStore) {
+        this.resultStore = resultStore;
+    }
+
+    /**
+     * Gets the resultSyncInterval.
+     *
+     * @return
+     */
+    public long getResultSyncInterval() {
+        return resultSyncInterval;
+    }
+
+    /**
+     * Sets the resultSyncInterval.
+     *
+     * @param resultSyncInterval
+     */
+    public void setResultSyncInterval(long resultSyncInterval) {
+        this.resultSyncInterval = resultSyncInterval;
+    }
+
+    /**
+     * Gets the retryAttempts.
+     *
+     * @return
+     */
+    public int getRetryAttempts() {
+        return retryAttempts;
+    }
+
+    /**
+     * Sets the retryAttempts.
+     *
+     * @param retryAttempts
+     */
+    public void setRetryAttempts(int retryAttempts) {
+        this.retryAttempts = retryAttempts;
+    }
+
+    /**
+     * Gets the retryCauses.
+     *
+     * @return
+     */
+    public List<String> getRetryCauses() {
+        return retryCauses;
+    }
+
+    /**
+     * Sets the retryCauses.
+     *
+     * @param retryCauses
+     */
+    public void setRetryCauses(List<String> retryCauses) {
+        this.retryCauses = retryCauses;
+    }
+
+    /**
+     * Gets the stopEndpoint.
+     *
+     * @return
+     */
+    public boolean isStopEndpoint() {
+        return stopEndpoint;
+    }
+
+    /**
+     * Sets the stopEndpoint.
+     *
+     * @param stopEndpoint
+     */
+    public void setStopEndpoint(boolean stopEndpoint) {
+        this.stopEndpoint = stopEndpoint;
+    }
+
     /**
      * Applies configuration with settable properties at runtime.
      * @param configuration
@@ -0,0 +1,354 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote;
+
+import io.vertx.core.Future;
+import org.citrusframework.Citrus;
+import org.citrusframework.CitrusInstanceManager;
+import org.citrusframework.CitrusInstanceStrategy;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.main.TestRunConfiguration;
+import org.citrusframework.remote.concurrent.PinnedThreadMonitor;
+import org.citrusframework.remote.concurrent.VirtualThreads;
+import org.citrusframework.remote.deploy.JarCache;
+import org.citrusframework.remote.deploy.LayerStore;
+import org.citrusframework.remote.deploy.TestJarDeployer;
+import org.citrusframework.remote.deploy.TestJarDeployment;
+import org.citrusframework.remote.history.DurationHistory;
+import org.citrusframework.remote.history.FlakyTestTracker;
+import org.citrusframework.remote.history.RunHistory;
+import org.citrusframework.remote.job.JobExecutor;
+import org.citrusframework.remote.job.JobRegistry;
+import org.citrusframework.remote.job.RemoteJob;
+import org.citrusframework.remote.listener.JobAwareTestListener;
+import org.citrusframework.remote.listener.RemoteTestListener;
+import org.citrusframework.remote.model.RemoteJobMetrics;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.report.RemoteReports;
+import org.citrusframework.remote.report.ReportIndex;
+import org.citrusframework.remote.store.FileResultStore;
+import org.citrusframework.remote.store.InMemoryResultStore;
+import org.citrusframework.remote.store.ResultStore;
+import org.citrusframework.remote.warmup.WarmContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server wide state shared by all remote application verticle instances. Holds the configuration, the test listener,
+ * the job registry and the executors so that any event loop is able to serve requests for any job.
+ *
+ * @since 4.11
+ */
+public class CitrusRemoteContext {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(CitrusRemoteContext.class);
+
+    /** Application configuration */
+    private final CitrusRemoteConfiguration configuration;
+
+    /** Forwards test events to the listener of the job running on the current thread */
+    private final JobAwareTestListener jobAwareTestListener =
+            new JobAwareTestListener(new RemoteTestListener());
+
+    /** Stores the test results of all jobs */
+    private final ResultStore resultStore;
+
+    /** Registered test run jobs */
+    private final JobRegistry jobRegistry;
+
+    /** Bounded executor running the test jobs */
+    private final JobExecutor jobExecutor;
+
+    /** Virtual thread executor for blocking endpoint work, null when running on the Vert.x worker pool */
+    private final ExecutorService blockingExecutor;
+
+    /** Reports virtual threads pinned to their carrier thread */
+    private final PinnedThreadMonitor pinnedThreadMonitor = new PinnedThreadMonitor();
+
+    /** Cached listing of the report directories */
+    private final ReportIndex reportIndex = new ReportIndex();
+
+    /** Test jars uploaded into the running server */
+    private final TestJarDeployer testJarDeployer;
+
+    /** Content addressed jars shared by all clients */
+    private final JarCache jarCache;
+
+    /** Content addressed assembly layers uploaded by clients */
+    private final LayerStore layerStore;
+
+    /** Recorded test class durations used to schedule the longest test classes first */
+    private final DurationHistory durationHistory;
+
+    /** Results of all completed jobs */
+    private final RunHistory runHistory;
+
+    /** Flake rate of each test across all jobs */
+    private final FlakyTestTracker flakyTestTracker;
+
+    /** Citrus context initialized ahead of the first test run */
+    private final WarmContext warmContext;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Constructor with given application configuration.
+     * @param configuration
+     */
+    public CitrusRemoteContext(CitrusRemoteConfiguration configuration) {
+        this.configuration = configuration;
+        this.warmContext = new WarmContext(configuration);
+
+        Path dataDirectory = Path.of(configuration.getDataDirectory());
+        this.testJarDeployer = new TestJarDeployer(dataDirectory.resolve("deployments"));
+        this.jarCache = new JarCache(dataDirectory.resolve("jars"));
+        this.layerStore = new LayerStore(dataDirectory.resolve("layers"), jarCache);
+        this.durationHistory = new DurationHistory(dataDirectory.resolve("durations.properties"));
+        this.runHistory = new RunHistory(dataDirectory.resolve("history"));
+        this.flakyTestTracker = new FlakyTestTracker(dataDirectory.resolve("flaky-tests.properties"));
+        this.resultStore = createResultStore(configuration, dataDirectory);
+        this.jobRegistry = new JobRegistry(dataDirectory.resolve("jobs"), resultStore);
+
+        if (configuration.isVirtualThreads() && VirtualThreads.isSupported()) {
+            logger.info("Running test jobs and blocking endpoint work on virtual threads");
+            this.jobExecutor = new JobExecutor(
+                    configuration.getMaxConcurrentJobs(),
+                    configuration.getJobQueueCapacity(),
+                    VirtualThreads.threadFactory("citrus-remote-job-"));
+            this.blockingExecutor = VirtualThreads.newThreadPerTaskExecutor("citrus-remote-worker-");
+        } else {
+            if (configuration.isVirtualThreads()) {
+                logger.warn("Virtual threads are not supported on Java {} - using platform threads instead",
+                        Runtime.version().feature());
+            }
+            this.jobExecutor = new JobExecutor(
+                    configuration.getMaxConcurrentJobs(),
+                    configuration.getJobQueueCapacity());
+            this.blockingExecutor = null;
+        }
+    }
+
+    private static ResultStore createResultStore(CitrusRemoteConfiguration configuration, Path dataDirectory) {
+        if ("memory".equalsIgnoreCase(configuration.getResultStore())) {
+            return new InMemoryResultStore();
+        }
+
+        if (!"file".equalsIgnoreCase(configuration.getResultStore())) {
+            throw new CitrusRuntimeException("Unsupported result store: " + configuration.getResultStore());
+        }
+
+        return new FileResultStore(dataDirectory.resolve("results"), configuration.getResultSyncInterval());
+    }
+
+    /**
+     * Registers the test listener with Citrus. Subsequent calls have no effect so this is safe to call from
+     * every verticle instance.
+     */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        jobRegistry.restore();
+
+        CitrusInstanceManager.mode(CitrusInstanceStrategy.SINGLETON);
+        CitrusInstanceManager
+                .addInstanceProcessor(citrus -> citrus.addTestListener(jobAwareTestListener));
+
+        if (blockingExecutor != null) {
+            pinnedThreadMonitor.start(Duration.ofMillis(configuration.getPinnedThreshold()));
+        }
+
+        reportIndex.start();
+        reportIndex.watch(Path.of(RemoteReports.getJUnitReportsFolder()));
+        reportIndex.watch(RemoteReports.getSuiteReportFile().getParent());
+
+        if (configuration.isWarmup()) {
+            Thread warmup = new Thread(() -> {
+                try {
+                    warmContext.warmup();
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to warm up Citrus context", e);
+                }
+            }, "citrus-remote-warmup");
+            warmup.setDaemon(true);
+            warmup.start();
+        }
+    }
+
+    /**
+     * Starts new job for given run configuration asynchronously and registers it.
+     * @param runConfiguration
+     * @return
+     */
+    public RemoteJob submitJob(TestRunConfiguration runConfiguration) {
+        RemoteJob job = jobRegistry.create(runConfiguration);
+        job.setResultFuture(Future.fromCompletionStage(
+                jobExecutor.submit(() -> {
+                    job.setSavedStartupMillis(warmContext.startRun());
+                    Optional<TestJarDeployment> deployment = testJarDeployer.acquire();
+                    try {
+                        return job.execute(configuration, deployment.orElse(null), durationHistory);
+                    } finally {
+                        deployment.ifPresent(TestJarDeployment::release);
+                        List<RemoteResult> results = job.getRemoteTestListener().toRemoteResults();
+                        runHistory.record(job.getId(), results);
+                        flakyTestTracker.record(results);
+                        reportIndex.refresh(Path.of(RemoteReports.getJUnitReportsFolder()));
+                        reportIndex.refresh(job.getJUnitReportsDirectory());
+                    }
+                })));
+        jobRegistry.register(job);
+        return job;
+    }
+
+    /**
+     * Gets the test listener of the most recent job or the default listener when no job has been submitted yet.
+     * @return
+     */
+    public RemoteTestListener currentListener() {
+        return jobRegistry.latest()
+                .map(RemoteJob::getRemoteTestListener)
+                .orElse(jobAwareTestListener.getDefaultListener());
+    }
+
+    /**
+     * Gets current job executor and thread metrics.
+     * @return
+     */
+    public RemoteJobMetrics getMetrics() {
+        RemoteJobMetrics metrics = jobExecutor.getMetrics();
+        metrics.setVirtualThreads(blockingExecutor != null);
+        metrics.setPinnedThreadEvents(pinnedThreadMonitor.getPinnedEvents());
+        return metrics;
+    }
+
+    /**
+     * Closes Citrus and stops the executors.
+     */
+    public void close() {
+        Optional<Citrus> citrus = CitrusInstanceManager.get();
+        if (citrus.isPresent()) {
+            logger.info("Closing Citrus and its application context");
+            citrus.get().close();
+        }
+        jobExecutor.shutdown();
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdown();
+        }
+        pinnedThreadMonitor.close();
+        reportIndex.close();
+        testJarDeployer.close();
+        resultStore.close();
+    }
+
+    /**
+     * Gets the configuration.
+     * @return
+     */
+    public CitrusRemoteConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Gets the jobRegistry.
+     * @return
+     */
+    public JobRegistry getJobRegistry() {
+        return jobRegistry;
+    }
+
+    /**
+     * Gets the reportIndex.
+     * @return
+     */
+    public ReportIndex getReportIndex() {
+        return reportIndex;
+    }
+
+    /**
+     * Gets the warmContext.
+     * @return
+     */
+    public WarmContext getWarmContext() {
+        return warmContext;
+    }
+
+    /**
+     * Gets the testJarDeployer.
+     * @return
+     */
+    public TestJarDeployer getTestJarDeployer() {
+        return testJarDeployer;
+    }
+
+    /**
+     * Gets the jarCache.
+     * @return
+     */
+    public JarCache getJarCache() {
+        return jarCache;
+    }
+
+    /**
+     * Gets the layerStore.
+     * @return
+     */
+    public LayerStore getLayerStore() {
+        return layerStore;
+    }
+
+    /**
+     * Gets the runHistory.
+     * @return
+     */
+    public RunHistory getRunHistory() {
+        return runHistory;
+    }
+
+    /**
+     * Gets the flakyTestTracker.
+     * @return
+     */
+    public FlakyTestTracker getFlakyTestTracker() {
+        return flakyTestTracker;
+    }
+
+    /**
+     * Gets the durationHistory.
+     * @return
+     */
+    public DurationHistory getDurationHistory() {
+        return durationHistory;
+    }
+
+    /**
+     * Gets the blockingExecutor or null when blocking work runs on the Vert.x worker pool.
+     * @return
+     */
+    public ExecutorService getBlockingExecutor() {
+        return blockingExecutor;
+    }
+}
@@ -20,6 +20,7 @@ import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.main.CitrusAppOptions;
 import org.citrusframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 /**
@@ -41,5 +42,195 @@ public class CitrusRemoteOptions extends CitrusAppOptions<CitrusRemoteConfigurat
                 }
             }
         });
+
+        options.add(new CliOption<>("in", "instances", "Number of server instances handling requests on separate event loops") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setInstances(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -in/--instances option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("mj", "max-jobs", "Maximum number of test jobs running at the same time") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setMaxConcurrentJobs(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -mj/--max-jobs option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("jq", "job-queue", "Maximum number of test jobs waiting for execution") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setJobQueueCapacity(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -jq/--job-queue option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("vt", "virtual-threads", "Run test jobs on virtual threads (requires Java 21 or later)") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setVirtualThreads(Boolean.parseBoolean(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -vt/--virtual-threads option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("pt", "pinned-threshold", "Report virtual threads pinned longer than given milliseconds") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setPinnedThreshold(Long.parseLong(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -pt/--pinned-threshold option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("cp", "compression", "Compress responses with gzip or deflate") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setCompression(Boolean.parseBoolean(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -cp/--compression option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("cl", "compression-level", "Compression level between 1 (fast) and 9 (best)") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setCompressionLevel(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -cl/--compression-level option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("ct", "compression-threshold", "Minimum response size in bytes for compression") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setCompressionThreshold(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -ct/--compression-threshold option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("wu", "warmup", "Initialize the Citrus context and endpoints on startup") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setWarmup(Boolean.parseBoolean(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -wu/--warmup option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("pw", "parallel-workers", "Number of workers running the test classes of a job in parallel") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setParallelWorkers(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -pw/--parallel-workers option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("td", "test-duration", "Estimated duration in milliseconds of test classes without duration history") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setDefaultTestDuration(Long.parseLong(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -td/--test-duration option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("dd", "data-dir", "Directory holding deployments, caches, history and stored job results") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setDataDirectory(value);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -dd/--data-dir option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("rs", "result-store", "Store for test results, either file (default) or memory") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setResultStore(value);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -rs/--result-store option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("rsi", "result-sync-interval", "Interval in milliseconds stored test results are synced to disk") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setResultSyncInterval(Long.parseLong(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -rsi/--result-sync-interval option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("ra", "retry-attempts", "Maximum number of attempts of a failed test within a job") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setRetryAttempts(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -ra/--retry-attempts option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("rc", "retry-causes", "Comma separated failure cause types to retry, default retries all failures") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setRetryCauses(Arrays.stream(value.split(","))
+                            .map(String::trim)
+                            .filter(StringUtils::hasText)
+                            .toList());
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -rc/--retry-causes option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("se", "stop-endpoint", "Expose POST /stop to shut down the server gracefully") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setStopEndpoint(Boolean.parseBoolean(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -se/--stop-endpoint option");
+                }
+            }
+        });
     }
 }
@@ -16,12 +16,15 @@
 
 package org.citrusframework.remote;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.Router;
 import org.citrusframework.remote.controller.RunController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -46,7 +49,10 @@ public class CitrusRemoteServer {
     /** Router customizations */
     private final List<Consumer<Router>> routerCustomizations;
 
-    private CitrusRemoteApplication application;
+    /** Server wide state shared by all application instances */
+    private CitrusRemoteContext context;
+
+    private Vertx vertx;
 
     /** Completed future marking completed state */
     protected final CompletableFuture<Boolean> completed = new CompletableFuture<>();
@@ -108,8 +114,20 @@ public class CitrusRemoteServer {
      * Start server instance and listen for incoming requests.
      */
     public void start() {
-        application = new CitrusRemoteApplication(configuration, routerCustomizations);
-        Vertx.vertx().deployVerticle(application);
+        context = new CitrusRemoteContext(configuration);
+        context.start();
+
+        int instances = Math.max(1, configuration.getInstances());
+        vertx = Vertx.vertx();
+        List<Consumer<Router>> customizations = new ArrayList<>(routerCustomizations);
+        if (configuration.isStopEndpoint()) {
+            customizations.add(this::addStopEndpoint);
+        }
+
+        vertx.deployVerticle(() -> new CitrusRemoteApplication(context, customizations),
+                        new DeploymentOptions().setInstances(instances))
+                .onSuccess(deploymentId -> logger.info("Deployed {} server instances", instances))
+                .onFailure(cause -> logger.error("Failed to deploy server instances", cause));
 
         if (!configuration.isSkipTests()) {
             new RunController(configuration).run();
@@ -120,11 +138,28 @@ public class CitrusRemoteServer {
         }
     }
 
+    /**
+     * Adds the stop endpoint. Responds with accepted status and stops the server once the response has been sent.
+     * @param router
+     */
+    private void addStopEndpoint(Router router) {
+        router.post("/stop")
+                .handler(ctx -> ctx.response()
+                        .setStatusCode(HttpResponseStatus.ACCEPTED.code())
+                        .end()
+                        .onComplete(unused -> CompletableFuture.runAsync(this::stop)));
+    }
+
     /**
      * Stops the server instance.
      */
-    public void stop() {
-        application.stop();
+    public synchronized void stop() {
+        if (completed.isDone()) {
+            return;
+        }
+
+        vertx.close();
+        context.close();
         complete();
     }
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.concurrent;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Watches for virtual threads being pinned to their carrier thread longer than a given threshold.
+ * Pinned sections (e.g. blocking I/O inside synchronized blocks) block the carrier thread and
+ * defeat the purpose of virtual threads, so each occurrence is logged with the top stack frames.
+ * Uses a JFR event stream on the jdk.VirtualThreadPinned event.
+ *
+ * @since 4.11
+ */
+public class PinnedThreadMonitor implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    /** JFR event raised when a virtual thread parks while pinned */
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+    /** Number of stack frames logged for each pinned event */
+    private static final int LOGGED_FRAMES = 5;
+
+    private final AtomicLong pinnedEvents = new AtomicLong();
+
+    private RecordingStream recordingStream;
+
+    /**
+     * Starts monitoring pinned virtual threads exceeding given threshold.
+     * @param threshold
+     */
+    public void start(Duration threshold) {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(VIRTUAL_THREAD_PINNED)
+                    .withThreshold(threshold)
+                    .withStackTrace();
+            recordingStream.onEvent(VIRTUAL_THREAD_PINNED, this::onPinned);
+            recordingStream.startAsync();
+            logger.info("Monitoring virtual threads pinned longer than {} ms", threshold.toMillis());
+        } catch (RuntimeException | LinkageError e) {
+            logger.warn("Unable to monitor pinned virtual threads - JFR event streaming is not available", e);
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        logger.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(),
+                Optional.ofNullable(event.getStackTrace())
+                        .map(stackTrace -> stackTrace.getFrames().stream()
+                                .limit(LOGGED_FRAMES)
+                                .map(PinnedThreadMonitor::toString)
+                                .collect(Collectors.joining(" <- ")))
+                        .orElse("unknown location"));
+    }
+
+    private static String toString(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Gets the number of pinned events recorded so far.
+     * @return
+     */
+    public long getPinnedEvents() {
+        return pinnedEvents.get();
+    }
+
+    @Override
+    public void close() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
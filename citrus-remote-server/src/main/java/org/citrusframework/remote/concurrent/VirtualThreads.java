@@ -0,0 +1,94 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.concurrent;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads when running on a Java runtime that supports them. The server is built for
+ * Java 17, so the virtual thread API is accessed reflectively and only used when available at runtime.
+ *
+ * @since 4.11
+ */
+public final class VirtualThreads {
+
+    /** Thread.ofVirtual() method, null when not supported by the current runtime */
+    private static final Method OF_VIRTUAL = findOfVirtual();
+
+    /**
+     * Prevent instantiation of utility class.
+     */
+    private VirtualThreads() {
+        // utility class
+    }
+
+    private static Method findOfVirtual() {
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the current Java runtime supports virtual threads.
+     * @return
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates thread factory for virtual threads named with given prefix and a sequence number.
+     * @param prefix
+     * @return
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        if (!isSupported()) {
+            throw new CitrusRuntimeException("Virtual threads are not supported on Java " + Runtime.version());
+        }
+
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new CitrusRuntimeException("Failed to create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Creates executor starting a new virtual thread for each task.
+     * @param prefix
+     * @return
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory(prefix));
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new CitrusRuntimeException("Failed to create virtual thread executor", e);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.citrusframework.remote.controller;
 
 import org.citrusframework.TestSource;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.main.CitrusApp;
 import org.citrusframework.main.CitrusAppConfiguration;
 import org.citrusframework.remote.CitrusRemoteConfiguration;
@@ -24,6 +25,7 @@ import org.citrusframework.spi.ResourcePathTypeResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.*;
@@ -44,6 +46,9 @@ public class RunController {
     /** Default properties set as system properties */
     private final Map<String, String> defaultProperties = new LinkedHashMap<>();
 
+    /** Hot deployed test jar, tests are loaded from the server classpath when not set */
+    private File testJar;
+
     private final CitrusRemoteConfiguration configuration;
 
     /**
@@ -76,7 +81,7 @@ public class RunController {
         citrusAppConfiguration.addDefaultProperties(configuration.getDefaultProperties());
         citrusAppConfiguration.addDefaultProperties(defaultProperties);
         try {
-            citrusAppConfiguration.setTestJar(Path.of(ResourcePathTypeResolver.ROOT.toURI()).toFile());
+            citrusAppConfiguration.setTestJar(testJar != null ? testJar : Path.of(ResourcePathTypeResolver.ROOT.toURI()).toFile());
             run(citrusAppConfiguration);
         } catch (URISyntaxException e) {
             logger.error("Cannot transform URI {} to path", ResourcePathTypeResolver.ROOT, e);
@@ -97,13 +102,32 @@ public class RunController {
         citrusAppConfiguration.addDefaultProperties(configuration.getDefaultProperties());
         citrusAppConfiguration.addDefaultProperties(defaultProperties);
         try {
-            citrusAppConfiguration.setTestJar(Path.of(ResourcePathTypeResolver.ROOT.toURI()).toFile());
+            citrusAppConfiguration.setTestJar(testJar != null ? testJar : Path.of(ResourcePathTypeResolver.ROOT.toURI()).toFile());
             run(citrusAppConfiguration);
         } catch (URISyntaxException e) {
             logger.error("Cannot transform URI {} to path", ResourcePathTypeResolver.ROOT, e);
         }
     }
 
+    /**
+     * Finds the test classes in given packages of the test jar using the configured test name includes.
+     * @param packages
+     * @return
+     */
+    public List<TestSource> findTests(List<String> packages) {
+        File tests = testJar;
+        if (tests == null) {
+            try {
+                tests = Path.of(ResourcePathTypeResolver.ROOT.toURI()).toFile();
+            } catch (URISyntaxException e) {
+                throw new CitrusRuntimeException("Cannot transform URI " + ResourcePathTypeResolver.ROOT + " to path", e);
+            }
+        }
+
+        return new TestClassScanner(tests, Optional.ofNullable(includes).orElse(configuration.getIncludes()))
+                .findTests(packages);
+    }
+
     /**
      * Run tests with default configuration.
      */
@@ -137,6 +161,15 @@ public class RunController {
         this.includes = includes;
     }
 
+    /**
+     * Sets the testJar.
+     *
+     * @param testJar
+     */
+    public void setTestJar(File testJar) {
+        this.testJar = testJar;
+    }
+
     /**
      * Sets the defaultProperties.
      *
@@ -0,0 +1,110 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.controller;
+
+import org.citrusframework.TestClass;
+import org.citrusframework.TestSource;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Finds the test classes in given packages of a test jar or class path directory. Classes are selected by their
+ * simple name matching one of the include patterns, the same way the Citrus test engines select tests.
+ *
+ * @since 4.11
+ */
+public class TestClassScanner {
+
+    /** Citrus default test name patterns used when no includes are given */
+    private static final String[] DEFAULT_INCLUDES = { "^.*IT$", "^.*ITCase$", "^IT.*$" };
+
+    private final File testJar;
+
+    private final List<Pattern> includes;
+
+    /**
+     * Constructor using the test jar or class path directory and the test name include patterns.
+     * @param testJar
+     * @param includes
+     */
+    public TestClassScanner(File testJar, String... includes) {
+        this.testJar = testJar;
+        this.includes = Arrays.stream(includes != null && includes.length > 0 ? includes : DEFAULT_INCLUDES)
+                .map(Pattern::compile)
+                .toList();
+    }
+
+    /**
+     * Finds all test classes in given packages including their sub packages. An empty package name selects
+     * all packages.
+     * @param packages
+     * @return
+     */
+    public List<TestSource> findTests(List<String> packages) {
+        TreeSet<String> classNames = new TreeSet<>();
+        try {
+            if (testJar.isDirectory()) {
+                Path root = testJar.toPath();
+                try (Stream<Path> files = Files.walk(root)) {
+                    files.filter(Files::isRegularFile)
+                            .map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+                            .forEach(entry -> addTestClass(entry, packages, classNames));
+                }
+            } else {
+                try (JarFile jar = new JarFile(testJar)) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        addTestClass(entries.nextElement().getName(), packages, classNames);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to scan for test classes in " + testJar, e);
+        }
+
+        List<TestSource> tests = new ArrayList<>();
+        classNames.forEach(className -> tests.add(TestClass.fromString(className)));
+        return tests;
+    }
+
+    private void addTestClass(String entry, List<String> packages, TreeSet<String> classNames) {
+        if (!entry.endsWith(".class") || entry.contains("$")) {
+            return;
+        }
+
+        String className = entry.substring(0, entry.length() - ".class".length()).replace('/', '.');
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        boolean inPackage = packages.stream()
+                .anyMatch(packageName -> packageName.isEmpty() || className.startsWith(packageName + "."));
+        if (inPackage && includes.stream().anyMatch(include -> include.matcher(simpleName).matches())) {
+            classNames.add(className);
+        }
+    }
+}
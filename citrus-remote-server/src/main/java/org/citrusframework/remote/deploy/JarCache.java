@@ -0,0 +1,175 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.deploy;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.remote.util.Sha256;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Content addressed cache of jar files keyed by the SHA-256 hash of their content. The cache is shared by all
+ * clients of the server, so a dependency used by many projects is transferred and stored only once.
+ * Cached jars never change and are never removed while the server is running.
+ *
+ * @since 4.11
+ */
+public class JarCache {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(JarCache.class);
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path directory;
+
+    /**
+     * Constructor using the cache directory.
+     * @param directory
+     */
+    public JarCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Checks whether the jar with given hash is cached.
+     * @param sha256
+     * @return
+     */
+    public boolean contains(String sha256) {
+        return isValid(sha256) && Files.isRegularFile(directory.resolve(sha256 + ".jar"));
+    }
+
+    /**
+     * Gets the hashes of all given jars that are not cached yet.
+     * @param hashes
+     * @return
+     */
+    public List<String> missing(Collection<String> hashes) {
+        return hashes.stream()
+                .distinct()
+                .filter(sha256 -> !contains(sha256))
+                .toList();
+    }
+
+    /**
+     * Gets a new unique file location for an uploaded or extracted jar.
+     * @return
+     */
+    public Path newUploadFile() {
+        return directory.resolve(UUID.randomUUID() + ".upload");
+    }
+
+    /**
+     * Verifies the hash of the uploaded jar and moves it into the cache. Blocking operation.
+     * @param sha256
+     * @param upload
+     * @return the cached jar
+     */
+    public Path store(String sha256, Path upload) {
+        verify(sha256);
+        try {
+            String actual = Sha256.hex(upload);
+            if (!actual.equals(sha256)) {
+                throw new CitrusRuntimeException(String.format(
+                        "Jar content hash mismatch - expected %s but was %s", sha256, actual));
+            }
+
+            return moveToCache(sha256, upload);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to cache jar " + sha256, e);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    /**
+     * Adds given jar file to the cache under its content hash. The file is moved into the cache, or removed when
+     * the cache already holds the same content. Blocking operation.
+     * @param file
+     * @return the hash of the cached jar
+     */
+    public String add(Path file) {
+        try {
+            String sha256 = Sha256.hex(file);
+            moveToCache(sha256, file);
+            return sha256;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to cache jar " + file, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * Gets the cached jar with given hash.
+     * @param sha256
+     * @return
+     */
+    public Path jarFile(String sha256) {
+        verify(sha256);
+        if (!contains(sha256)) {
+            throw new CitrusRuntimeException("Missing jar " + sha256 + " - upload the jar first");
+        }
+
+        return directory.resolve(sha256 + ".jar");
+    }
+
+    /**
+     * Checks given string to be a lower case hex encoded SHA-256 hash so that it is safe to use as file name.
+     * @param sha256
+     * @return
+     */
+    public static boolean isValid(String sha256) {
+        return sha256 != null && SHA256.matcher(sha256).matches();
+    }
+
+    static void verify(String sha256) {
+        if (!isValid(sha256)) {
+            throw new CitrusRuntimeException("Invalid content hash: " + sha256);
+        }
+    }
+
+    private Path moveToCache(String sha256, Path file) throws IOException {
+        Path cached = directory.resolve(sha256 + ".jar");
+        if (!Files.isRegularFile(cached)) {
+            Files.createDirectories(directory);
+            Files.move(file, cached, ATOMIC_MOVE, REPLACE_EXISTING);
+            logger.debug("Cached jar {}", sha256);
+        }
+        return cached;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.deploy;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.remote.model.RemoteLayer;
+import org.citrusframework.remote.model.RemoteLayerManifest;
+import org.citrusframework.remote.util.Sha256;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Content addressed store of uploaded assembly layers. Dependency layers, holding nothing but nested jars, are
+ * unpacked into the shared jar cache and only a {@code <sha256>.classpath} file listing the hashes of the nested jars
+ * is kept, so a dependency contained in several layers is stored only once. All other layers, such as the test
+ * classes layer, are kept as {@code <sha256>.jar} archive. Layers never change once stored, so clients only upload
+ * layers the store does not know yet.
+ *
+ * @since 4.11
+ */
+public class LayerStore {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(LayerStore.class);
+
+    private final Path directory;
+
+    private final JarCache jarCache;
+
+    /**
+     * Constructor using the store directory and the cache holding the nested dependency jars.
+     * @param directory
+     * @param jarCache
+     */
+    public LayerStore(Path directory, JarCache jarCache) {
+        this.directory = directory;
+        this.jarCache = jarCache;
+    }
+
+    /**
+     * Checks whether the layer with given hash is present in this store.
+     * @param sha256
+     * @return
+     */
+    public boolean contains(String sha256) {
+        return isValid(sha256) &&
+                (Files.isRegularFile(classpathFile(sha256)) || Files.isRegularFile(archiveFile(sha256)));
+    }
+
+    /**
+     * Gets the hashes of all layers of given manifest this store does not hold yet.
+     * @param manifest
+     * @return
+     */
+    public List<String> missing(RemoteLayerManifest manifest) {
+        return manifest.getLayers().stream()
+                .map(RemoteLayer::getSha256)
+                .distinct()
+                .filter(sha256 -> !contains(sha256))
+                .toList();
+    }
+
+    /**
+     * Gets a new unique file location for an uploaded layer.
+     * @return
+     */
+    public Path newUploadFile() {
+        return directory.resolve(UUID.randomUUID() + ".upload");
+    }
+
+    /**
+     * Verifies the hash of the uploaded layer and adds it to this store. The nested jars of a dependency layer are
+     * moved to the jar cache so they can be put on a class path and the upload is removed afterwards, any other
+     * layer is kept as archive. Blocking operation.
+     * @param sha256
+     * @param upload
+     */
+    public void store(String sha256, Path upload) {
+        JarCache.verify(sha256);
+
+        Path classpathWork = directory.resolve(sha256 + "." + UUID.randomUUID() + ".tmp");
+        try {
+            String actual = Sha256.hex(upload);
+            if (!actual.equals(sha256)) {
+                throw new CitrusRuntimeException(String.format(
+                        "Layer content hash mismatch - expected %s but was %s", sha256, actual));
+            }
+
+            if (isDependencyLayer(upload)) {
+                Files.write(classpathWork, extractJars(upload));
+                Files.move(classpathWork, classpathFile(sha256), ATOMIC_MOVE, REPLACE_EXISTING);
+                logger.info("Stored dependency layer {}", sha256);
+            } else {
+                Files.move(upload, archiveFile(sha256), ATOMIC_MOVE, REPLACE_EXISTING);
+                logger.info("Stored layer archive {}", sha256);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to store layer " + sha256, e);
+        } finally {
+            deleteQuietly(upload);
+            deleteQuietly(classpathWork);
+        }
+    }
+
+    /**
+     * Gets the layer archive for given hash. Only layers that are not dependency layers are kept as archive.
+     * @param sha256
+     * @return
+     */
+    public Path layerFile(String sha256) {
+        Path archive = archiveFile(sha256);
+        if (!Files.isRegularFile(archive)) {
+            throw new CitrusRuntimeException("Layer " + sha256 + " is not stored as archive");
+        }
+
+        return archive;
+    }
+
+    /**
+     * Gets the cached dependency jars nested in the layer with given hash.
+     * @param sha256
+     * @return
+     */
+    public List<Path> jars(String sha256) {
+        try {
+            return Files.readAllLines(classpathFile(sha256)).stream()
+                    .map(jarCache::jarFile)
+                    .toList();
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read layer " + sha256, e);
+        }
+    }
+
+    /**
+     * Checks given string to be a lower case hex encoded SHA-256 hash so that it is safe to use as file name.
+     * @param sha256
+     * @return
+     */
+    public static boolean isValid(String sha256) {
+        return JarCache.isValid(sha256);
+    }
+
+    private Path classpathFile(String sha256) {
+        JarCache.verify(sha256);
+        return directory.resolve(sha256 + ".classpath");
+    }
+
+    private Path archiveFile(String sha256) {
+        JarCache.verify(sha256);
+        return directory.resolve(sha256 + ".jar");
+    }
+
+    /**
+     * Checks whether given layer holds nothing but nested jars, ignoring directories and archive metadata.
+     * @param layer
+     * @return
+     * @throws IOException
+     */
+    private static boolean isDependencyLayer(Path layer) throws IOException {
+        boolean hasJars = false;
+        try (ZipFile zip = new ZipFile(layer.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory() || entry.getName().startsWith("META-INF/")) {
+                    continue;
+                }
+
+                if (!entry.getName().endsWith(".jar")) {
+                    return false;
+                }
+                hasJars = true;
+            }
+        }
+
+        return hasJars;
+    }
+
+    /**
+     * Adds the jar entries of given layer to the jar cache.
+     * @param layer
+     * @return the hashes of the nested jars in entry order
+     * @throws IOException
+     */
+    private List<String> extractJars(Path layer) throws IOException {
+        List<String> hashes = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(layer))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || !entry.getName().endsWith(".jar")) {
+                    continue;
+                }
+
+                Path jar = jarCache.newUploadFile();
+                Files.createDirectories(jar.getParent());
+                Files.copy(zip, jar);
+                hashes.add(jarCache.add(jar));
+            }
+        }
+
+        return hashes;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}", file, e);
+        }
+    }
+}
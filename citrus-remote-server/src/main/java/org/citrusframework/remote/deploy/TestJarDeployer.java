@@ -0,0 +1,222 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.deploy;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.remote.model.RemoteClasspath;
+import org.citrusframework.remote.model.RemoteLayer;
+import org.citrusframework.remote.model.RemoteLayerManifest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.JarFile;
+
+/**
+ * Hot deploys test jars into the running server. Each deployment gets a fresh child class loader of the server
+ * class loader, so subsequent test runs pick up new test code without a server restart. Jobs that are still running
+ * keep using the deployment they have started with.
+ *
+ * @since 4.11
+ */
+public class TestJarDeployer {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(TestJarDeployer.class);
+
+    private final Path deploymentsDirectory;
+
+    private final AtomicReference<TestJarDeployment> current = new AtomicReference<>();
+
+    /**
+     * Constructor using the directory to store deployed jars.
+     * @param deploymentsDirectory
+     */
+    public TestJarDeployer(Path deploymentsDirectory) {
+        this.deploymentsDirectory = deploymentsDirectory;
+    }
+
+    /**
+     * Gets a new unique file location for an uploaded test jar.
+     * @return
+     */
+    public Path newUploadFile() {
+        return deploymentsDirectory.resolve(UUID.randomUUID() + ".jar");
+    }
+
+    /**
+     * Deploys given test jar and makes it the current deployment. Blocking operation.
+     * @param testJar
+     * @return
+     */
+    public TestJarDeployment deploy(Path testJar) {
+        return deploy(testJar, Collections.emptyList());
+    }
+
+    /**
+     * Deploys the layers of given manifest from the layer store. The tests layer becomes the test jar and the jars
+     * of all other layers are added to the class path of the deployment. Blocking operation.
+     * @param manifest
+     * @param layerStore
+     * @return
+     */
+    public TestJarDeployment deploy(RemoteLayerManifest manifest, LayerStore layerStore) {
+        Path testsLayer = null;
+        List<Path> classpath = new ArrayList<>();
+        for (RemoteLayer layer : manifest.getLayers()) {
+            if (!layerStore.contains(layer.getSha256())) {
+                throw new CitrusRuntimeException(String.format("Missing layer '%s' (%s) - upload the layer first",
+                        layer.getName(), layer.getSha256()));
+            }
+
+            if (RemoteLayer.TESTS.equals(layer.getName())) {
+                testsLayer = layerStore.layerFile(layer.getSha256());
+            } else {
+                classpath.addAll(layerStore.jars(layer.getSha256()));
+            }
+        }
+
+        if (testsLayer == null) {
+            throw new CitrusRuntimeException("Missing layer '" + RemoteLayer.TESTS + "' in layer manifest");
+        }
+
+        return deploy(copyTestJar(testsLayer), classpath);
+    }
+
+    /**
+     * Deploys given class path from the jar cache. Blocking operation.
+     * @param classpath
+     * @param jarCache
+     * @return
+     */
+    public TestJarDeployment deploy(RemoteClasspath classpath, JarCache jarCache) {
+        if (classpath.getTestJar() == null) {
+            throw new CitrusRuntimeException("Missing test jar in class path");
+        }
+
+        Path testJar = jarCache.jarFile(classpath.getTestJar());
+        List<Path> dependencies = classpath.getDependencies().stream()
+                .map(jarCache::jarFile)
+                .toList();
+
+        return deploy(copyTestJar(testJar), dependencies);
+    }
+
+    /**
+     * Copies given shared test jar to a new deployment file. The deployment removes its test jar when retired,
+     * so the stored original must stay untouched.
+     * @param testJar
+     * @return
+     */
+    private Path copyTestJar(Path testJar) {
+        Path deploymentJar = newUploadFile();
+        try {
+            Files.createDirectories(deploymentJar.getParent());
+            Files.copy(testJar, deploymentJar);
+            return deploymentJar;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to deploy test jar", e);
+        }
+    }
+
+    /**
+     * Deploys given test jar with additional class path entries and makes it the current deployment.
+     * The previous deployment is released and gets closed once no running job uses it anymore. Blocking operation.
+     * @param testJar
+     * @param classpath
+     * @return
+     */
+    public TestJarDeployment deploy(Path testJar, List<Path> classpath) {
+        try {
+            try (JarFile jarFile = new JarFile(testJar.toFile())) {
+                logger.debug("Deploying test jar with {} entries", jarFile.size());
+            }
+
+            String id = testJar.getFileName().toString().replaceFirst("\\.jar$", "");
+            List<URL> urls = new ArrayList<>();
+            urls.add(testJar.toUri().toURL());
+            for (Path jar : classpath) {
+                urls.add(jar.toUri().toURL());
+            }
+
+            URLClassLoader classLoader = new URLClassLoader("citrus-remote-tests-" + id,
+                    urls.toArray(URL[]::new), TestJarDeployer.class.getClassLoader());
+            TestJarDeployment deployment = new TestJarDeployment(id, testJar, classLoader, Files.size(testJar));
+
+            TestJarDeployment previous = current.getAndSet(deployment);
+            if (previous != null) {
+                previous.release();
+            }
+
+            logger.info("Deployed test jar {} with {} additional class path entries", id, classpath.size());
+            return deployment;
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(testJar);
+            } catch (IOException deleteError) {
+                e.addSuppressed(deleteError);
+            }
+            throw new CitrusRuntimeException("Failed to deploy test jar - not a valid jar file", e);
+        }
+    }
+
+    /**
+     * Acquires the current deployment for a test run. Callers must release the deployment once the run has finished.
+     * Empty when no test jar has been deployed.
+     * @return
+     */
+    public Optional<TestJarDeployment> acquire() {
+        while (true) {
+            TestJarDeployment deployment = current.get();
+            if (deployment == null) {
+                return Optional.empty();
+            }
+
+            if (deployment.acquire()) {
+                return Optional.of(deployment);
+            }
+        }
+    }
+
+    /**
+     * Gets the current deployment.
+     * @return
+     */
+    public Optional<TestJarDeployment> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Releases the current deployment.
+     */
+    public void close() {
+        TestJarDeployment deployment = current.getAndSet(null);
+        if (deployment != null) {
+            deployment.release();
+        }
+    }
+}
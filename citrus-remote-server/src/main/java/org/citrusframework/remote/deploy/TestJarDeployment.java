@@ -0,0 +1,131 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.deploy;
+
+import org.citrusframework.remote.model.RemoteTestJar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test jar deployed into the running server together with the child class loader loading its test classes.
+ * Deployments are reference counted: the deployer holds one reference while the deployment is current and every
+ * job running the tests holds another one. The class loader gets closed and the jar removed once the deployment
+ * has been replaced and the last job using it has finished.
+ *
+ * @since 4.11
+ */
+public class TestJarDeployment {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(TestJarDeployment.class);
+
+    private final String id;
+    private final Path testJar;
+    private final URLClassLoader classLoader;
+    private final long size;
+    private final long deployed = System.currentTimeMillis();
+
+    /** Number of holders, starts with the reference held by the deployer */
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    /**
+     * Constructor using deployment id, jar and class loader.
+     * @param id
+     * @param testJar
+     * @param classLoader
+     * @param size
+     */
+    TestJarDeployment(String id, Path testJar, URLClassLoader classLoader, long size) {
+        this.id = id;
+        this.testJar = testJar;
+        this.classLoader = classLoader;
+        this.size = size;
+    }
+
+    /**
+     * Acquires a reference to this deployment. Fails when the deployment has already been released.
+     * @return
+     */
+    boolean acquire() {
+        int current;
+        do {
+            current = references.get();
+            if (current == 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * Releases a reference to this deployment and closes the deployment when it was the last one.
+     */
+    public void release() {
+        if (references.decrementAndGet() == 0) {
+            try {
+                classLoader.close();
+                Files.deleteIfExists(testJar);
+                logger.info("Removed test jar deployment {}", id);
+            } catch (IOException e) {
+                logger.warn("Failed to close test jar deployment {}", id, e);
+            }
+        }
+    }
+
+    /**
+     * Gets deployment information.
+     * @return
+     */
+    public RemoteTestJar toInfo() {
+        RemoteTestJar info = new RemoteTestJar();
+        info.setId(id);
+        info.setSize(size);
+        info.setDeployed(deployed);
+        return info;
+    }
+
+    /**
+     * Gets the id.
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the testJar.
+     * @return
+     */
+    public Path getTestJar() {
+        return testJar;
+    }
+
+    /**
+     * Gets the classLoader.
+     * @return
+     */
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.citrusframework.remote.CitrusRemoteContext;
+import org.citrusframework.remote.ThrowingHandler;
+import org.citrusframework.remote.job.JobRegistry;
+import org.citrusframework.remote.job.RemoteJob;
+import org.citrusframework.remote.transformer.JsonRequestTransformer;
+import org.citrusframework.remote.transformer.JsonResponseTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Base class of the handlers serving a group of routes of the remote application. Gives access to the server wide
+ * context and runs blocking work off the event loop.
+ *
+ * @since 4.11
+ */
+public abstract class AbstractHandler {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(AbstractHandler.class);
+
+    /** Content types */
+    protected static final String APPLICATION_JSON = "application/json";
+    protected static final String APPLICATION_XML = "application/xml";
+    protected static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
+    protected static final String APPLICATION_ZIP = "application/zip";
+
+    protected final Vertx vertx;
+
+    /** Server wide state shared by all verticle instances */
+    protected final CitrusRemoteContext remoteContext;
+
+    /** Registered test run jobs */
+    protected final JobRegistry jobRegistry;
+
+    protected final JsonRequestTransformer requestTransformer = new JsonRequestTransformer();
+    protected final JsonResponseTransformer responseTransformer = new JsonResponseTransformer();
+
+    /** Virtual thread executor for blocking endpoint work, null when running on the Vert.x worker pool */
+    private final ExecutorService blockingExecutor;
+
+    /**
+     * Constructor using the Vert.x instance and the server context.
+     * @param vertx
+     * @param remoteContext
+     */
+    protected AbstractHandler(Vertx vertx, CitrusRemoteContext remoteContext) {
+        this.vertx = vertx;
+        this.remoteContext = remoteContext;
+        this.jobRegistry = remoteContext.getJobRegistry();
+        this.blockingExecutor = remoteContext.getBlockingExecutor();
+    }
+
+    /**
+     * Adds the routes of this handler to given router.
+     * @param router
+     */
+    public abstract void addRoutes(Router router);
+
+    /**
+     * Resolves the job referenced by the id path parameter and invokes given handler.
+     * Responds with not found status when no such job is registered.
+     * @param ctx
+     * @param handler
+     * @throws Exception
+     */
+    protected void withJob(RoutingContext ctx, ThrowingHandler<RemoteJob> handler) throws Exception {
+        String id = ctx.pathParam("id");
+        Optional<RemoteJob> job = jobRegistry.get(id);
+        if (job.isPresent()) {
+            handler.handle(job.get());
+        } else {
+            ctx.response()
+                    .setStatusCode(HttpResponseStatus.NOT_FOUND.code())
+                    .end("Failed to find job: %s".formatted(id));
+        }
+    }
+
+    /**
+     * Runs given blocking file system work off the event loop and passes the result to given handler on the
+     * event loop. Uses virtual threads when enabled, otherwise the Vert.x worker pool. Responds with internal
+     * server error when the blocking work fails.
+     * @param ctx
+     * @param blockingCode
+     * @param resultHandler
+     * @param <T>
+     */
+    protected <T> void executeBlocking(RoutingContext ctx, Callable<T> blockingCode, Handler<T> resultHandler) {
+        executeBlocking(blockingCode)
+                .onSuccess(resultHandler)
+                .onFailure(throwable -> {
+                    if (ctx.response().headWritten()) {
+                        logger.warn("Failed to complete response", throwable);
+                        ctx.response().reset();
+                    } else {
+                        ctx.response()
+                                .setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code())
+                                .end(throwable.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * Runs given blocking work off the event loop. Uses virtual threads when enabled, otherwise the Vert.x
+     * worker pool. The returned future completes on the event loop.
+     * @param blockingCode
+     * @param <T>
+     * @return
+     */
+    protected <T> Future<T> executeBlocking(Callable<T> blockingCode) {
+        if (blockingExecutor == null) {
+            return vertx.executeBlocking(blockingCode, false);
+        }
+
+        Context context = vertx.getOrCreateContext();
+        Promise<T> promise = Promise.promise();
+        blockingExecutor.execute(() -> {
+            try {
+                T value = blockingCode.call();
+                context.runOnContext(unused -> promise.complete(value));
+            } catch (Exception e) {
+                context.runOnContext(unused -> promise.fail(e));
+            }
+        });
+        return promise.future();
+    }
+}
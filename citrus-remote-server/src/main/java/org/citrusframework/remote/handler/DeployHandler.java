@@ -0,0 +1,220 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.remote.CitrusRemoteContext;
+import org.citrusframework.remote.deploy.JarCache;
+import org.citrusframework.remote.deploy.LayerStore;
+import org.citrusframework.remote.deploy.TestJarDeployer;
+import org.citrusframework.remote.deploy.TestJarDeployment;
+import org.citrusframework.remote.model.RemoteClasspath;
+import org.citrusframework.remote.model.RemoteLayerManifest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.citrusframework.remote.CitrusRemoteApplication.wrapThrowingHandler;
+
+/**
+ * Handler for the routes deploying test jars, either uploaded as a whole or assembled from cached jars and layers.
+ *
+ * @since 4.11
+ */
+public class DeployHandler extends AbstractHandler {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(DeployHandler.class);
+
+    /** Test jars uploaded into the running server */
+    private final TestJarDeployer testJarDeployer;
+
+    /** Content addressed jars shared by all clients */
+    private final JarCache jarCache;
+
+    /** Content addressed assembly layers uploaded by clients */
+    private final LayerStore layerStore;
+
+    /**
+     * Constructor using the Vert.x instance and the server context.
+     * @param vertx
+     * @param remoteContext
+     */
+    public DeployHandler(Vertx vertx, CitrusRemoteContext remoteContext) {
+        super(vertx, remoteContext);
+        this.testJarDeployer = remoteContext.getTestJarDeployer();
+        this.jarCache = remoteContext.getJarCache();
+        this.layerStore = remoteContext.getLayerStore();
+    }
+
+    /**
+     * Adds the upload routes streaming the request body to disk. Must be registered before the buffering body handler.
+     * @param router
+     */
+    public void addUploadRoutes(Router router) {
+        router.post("/testjar")
+                .handler(ctx -> {
+                    Path uploadFile = testJarDeployer.newUploadFile();
+                    receiveUpload(ctx, uploadFile, () -> testJarDeployer.deploy(uploadFile))
+                            .onSuccess(deployment -> respondWithDeployment(ctx, deployment));
+                });
+        router.get("/testjar")
+                .handler(wrapThrowingHandler(ctx -> {
+                    Optional<TestJarDeployment> deployment = testJarDeployer.current();
+                    if (deployment.isPresent()) {
+                        ctx.response()
+                                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                                .end(responseTransformer.render(deployment.get().toInfo()));
+                    } else {
+                        ctx.response()
+                                .setStatusCode(HttpResponseStatus.NOT_FOUND.code())
+                                .end("No test jar deployed");
+                    }
+                }));
+        router.put("/layers/:hash")
+                .handler(ctx -> {
+                    String hash = ctx.pathParam("hash");
+                    if (!LayerStore.isValid(hash)) {
+                        ctx.response()
+                                .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                                .end("Invalid layer hash: " + hash);
+                        return;
+                    }
+
+                    Path uploadFile = layerStore.newUploadFile();
+                    receiveUpload(ctx, uploadFile, () -> {
+                        layerStore.store(hash, uploadFile);
+                        return hash;
+                    }).onSuccess(stored -> ctx.response()
+                            .setStatusCode(HttpResponseStatus.CREATED.code())
+                            .end());
+                });
+        router.put("/jars/:hash")
+                .handler(ctx -> {
+                    String hash = ctx.pathParam("hash");
+                    if (!JarCache.isValid(hash)) {
+                        ctx.response()
+                                .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                                .end("Invalid jar hash: " + hash);
+                        return;
+                    }
+
+                    Path uploadFile = jarCache.newUploadFile();
+                    receiveUpload(ctx, uploadFile, () -> jarCache.store(hash, uploadFile))
+                            .onSuccess(stored -> ctx.response()
+                                    .setStatusCode(HttpResponseStatus.CREATED.code())
+                                    .end());
+                });
+    }
+
+    @Override
+    public void addRoutes(Router router) {
+        router.post("/layers/missing")
+                .handler(wrapThrowingHandler(ctx -> {
+                    RemoteLayerManifest manifest = requestTransformer.read(ctx.body().asString(), RemoteLayerManifest.class);
+                    executeBlocking(ctx, () -> layerStore.missing(manifest), missing -> ctx.response()
+                            .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                            .end(responseTransformer.render(missing)));
+                }));
+        router.post("/jars/missing")
+                .handler(wrapThrowingHandler(ctx -> {
+                    List<String> hashes = List.of(requestTransformer.read(ctx.body().asString(), String[].class));
+                    executeBlocking(ctx, () -> jarCache.missing(hashes), missing -> ctx.response()
+                            .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                            .end(responseTransformer.render(missing)));
+                }));
+        router.post("/testjar/classpath")
+                .handler(wrapThrowingHandler(ctx -> {
+                    RemoteClasspath classpath = requestTransformer.read(ctx.body().asString(), RemoteClasspath.class);
+                    executeBlocking(() -> testJarDeployer.deploy(classpath, jarCache))
+                            .onSuccess(deployment -> respondWithDeployment(ctx, deployment))
+                            .onFailure(throwable -> respondWithUploadFailure(ctx, throwable));
+                }));
+        router.post("/testjar/layers")
+                .handler(wrapThrowingHandler(ctx -> {
+                    RemoteLayerManifest manifest = requestTransformer.read(ctx.body().asString(), RemoteLayerManifest.class);
+                    executeBlocking(() -> testJarDeployer.deploy(manifest, layerStore))
+                            .onSuccess(deployment -> respondWithDeployment(ctx, deployment))
+                            .onFailure(throwable -> respondWithUploadFailure(ctx, throwable));
+                }));
+    }
+
+    /**
+     * Streams the request body straight to given file without buffering it in memory and runs given blocking code
+     * once the upload is complete. Responds with an error and removes the file when the upload or the blocking code
+     * fails, so callers only need to handle the successful result.
+     * @param ctx
+     * @param uploadFile
+     * @param onReceived
+     * @param <T>
+     * @return
+     */
+    private <T> Future<T> receiveUpload(RoutingContext ctx, Path uploadFile, Callable<T> onReceived) {
+        HttpServerRequest request = ctx.request();
+        request.pause();
+
+        FileSystem fileSystem = vertx.fileSystem();
+        return fileSystem.mkdirs(uploadFile.getParent().toString())
+                .compose(unused -> fileSystem.open(uploadFile.toString(), new OpenOptions()
+                        .setWrite(true)
+                        .setCreate(true)
+                        .setTruncateExisting(true)))
+                .compose(request::pipeTo)
+                .compose(unused -> executeBlocking(onReceived))
+                .onFailure(throwable -> {
+                    fileSystem.delete(uploadFile.toString());
+                    respondWithUploadFailure(ctx, throwable);
+                });
+    }
+
+    private void respondWithDeployment(RoutingContext ctx, TestJarDeployment deployment) {
+        ctx.response()
+                .setStatusCode(HttpResponseStatus.CREATED.code())
+                .putHeader(HttpHeaders.LOCATION, "/testjar")
+                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                .end(responseTransformer.render(deployment.toInfo()));
+    }
+
+    /**
+     * Rejected uploads such as invalid jars or hash mismatches are client errors, everything else is a server error.
+     * @param ctx
+     * @param throwable
+     */
+    private void respondWithUploadFailure(RoutingContext ctx, Throwable throwable) {
+        logger.warn("Failed to process upload", throwable);
+        if (!ctx.response().ended() && !ctx.response().closed()) {
+            ctx.response()
+                    .setStatusCode(throwable instanceof CitrusRuntimeException ?
+                            HttpResponseStatus.BAD_REQUEST.code() :
+                            HttpResponseStatus.INTERNAL_SERVER_ERROR.code())
+                    .end(throwable.getMessage());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+import org.citrusframework.remote.CitrusRemoteContext;
+import org.citrusframework.remote.history.RunHistory;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import static org.citrusframework.remote.CitrusRemoteApplication.wrapThrowingHandler;
+
+/**
+ * Handler for the routes querying the run history and the flaky tests detected in it.
+ *
+ * @since 4.11
+ */
+public class HistoryHandler extends AbstractHandler {
+
+    /** Default and maximum number of run history entries per page */
+    private static final int DEFAULT_HISTORY_LIMIT = 50;
+    private static final int MAX_HISTORY_LIMIT = 1000;
+
+    /**
+     * Constructor using the Vert.x instance and the server context.
+     * @param vertx
+     * @param remoteContext
+     */
+    public HistoryHandler(Vertx vertx, CitrusRemoteContext remoteContext) {
+        super(vertx, remoteContext);
+    }
+
+    @Override
+    public void addRoutes(Router router) {
+        router.get("/history")
+                .handler(wrapThrowingHandler(ctx -> {
+                    RunHistory.Query query;
+                    try {
+                        query = constructHistoryQuery(ctx.request().params());
+                    } catch (IllegalArgumentException | DateTimeParseException e) {
+                        ctx.response()
+                                .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                                .end("Invalid history query: " + e.getMessage());
+                        return;
+                    }
+
+                    executeBlocking(ctx, () -> remoteContext.getRunHistory().query(query), page -> ctx.response()
+                            .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                            .end(responseTransformer.render(page)));
+                }));
+        router.get("/history/flaky")
+                .handler(wrapThrowingHandler(ctx -> ctx.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                        .end(responseTransformer.render(remoteContext.getFlakyTestTracker().getFlakyTests()))));
+    }
+
+    /**
+     * Reads the history query from the request parameters. Time range parameters accept milliseconds since epoch
+     * or ISO-8601 instants.
+     * @param params
+     * @return
+     */
+    private static RunHistory.Query constructHistoryQuery(MultiMap params) {
+        int offset = Optional.ofNullable(params.get("offset")).map(Integer::parseInt).orElse(0);
+        int limit = Optional.ofNullable(params.get("limit")).map(Integer::parseInt).orElse(DEFAULT_HISTORY_LIMIT);
+        if (offset < 0 || limit < 1 || limit > MAX_HISTORY_LIMIT) {
+            throw new IllegalArgumentException("Offset must not be negative and limit between 1 and " + MAX_HISTORY_LIMIT);
+        }
+
+        return new RunHistory.Query(
+                params.get("testClass"),
+                params.get("testName"),
+                params.get("status"),
+                parseTime(params.get("from")),
+                parseTime(params.get("to")),
+                offset,
+                limit);
+    }
+
+    private static Long parseTime(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        return value.chars().allMatch(Character::isDigit) ? Long.parseLong(value) : Instant.parse(value).toEpochMilli();
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RequestBody;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.citrusframework.TestClass;
+import org.citrusframework.main.TestRunConfiguration;
+import org.citrusframework.remote.CitrusRemoteConfiguration;
+import org.citrusframework.remote.CitrusRemoteContext;
+import org.citrusframework.remote.http.BlockingResponseOutputStream;
+import org.citrusframework.remote.http.ResultEventStream;
+import org.citrusframework.remote.job.JobRejectedException;
+import org.citrusframework.remote.job.RemoteJob;
+import org.citrusframework.remote.listener.RemoteTestListener;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.model.RemoteResultDelta;
+import org.citrusframework.remote.transformer.ResultEncoding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.citrusframework.remote.CitrusRemoteApplication.wrapThrowingHandler;
+
+/**
+ * Handler for the routes that run tests, manage jobs and serve their results.
+ *
+ * @since 4.11
+ */
+public class JobHandler extends AbstractHandler {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(JobHandler.class);
+
+    /** Global url encoding */
+    private static final String ENCODING = "UTF-8";
+
+    /** Interval of comment lines keeping idle result streams alive */
+    private static final long STREAM_HEARTBEAT_INTERVAL = 15000L;
+
+    /** Application configuration */
+    private final CitrusRemoteConfiguration configuration;
+
+    /**
+     * Constructor using the Vert.x instance and the server context.
+     * @param vertx
+     * @param remoteContext
+     */
+    public JobHandler(Vertx vertx, CitrusRemoteContext remoteContext) {
+        super(vertx, remoteContext);
+        this.configuration = remoteContext.getConfiguration();
+    }
+
+    @Override
+    public void addRoutes(Router router) {
+        addResultsEndpoints(router);
+        addRunEndpoints(router);
+        addJobEndpoints(router);
+        addWarmupEndpoints(router);
+    }
+
+    private void addResultsEndpoints(Router router) {
+        router.get("/results")
+                .produces(APPLICATION_JSON)
+                .produces(ResultEncoding.CBOR.getMediaType())
+                .produces(ResultEncoding.SMILE.getMediaType())
+                .handler(wrapThrowingHandler(ctx -> {
+                    if (ctx.request().params().contains("since")) {
+                        rejectUnscopedCursor(ctx, "/jobs/{id}/results?since=");
+                        return;
+                    }
+
+                    handleResults(ctx, currentListener(),
+                            jobRegistry.latest().map(RemoteJob::getResultFuture).orElse(null));
+                }));
+        router.get("/results")
+                .handler(ctx -> ctx.response()
+                        .end(responseTransformer.render(currentListener().generateTestReport())));
+        router.get("/results/stream")
+                .handler(wrapThrowingHandler(ctx -> {
+                    if (lastEventId(ctx) != null) {
+                        rejectUnscopedCursor(ctx, "/jobs/{id}/results/stream");
+                        return;
+                    }
+
+                    streamResults(ctx, currentListener(),
+                            jobRegistry.latest().map(RemoteJob::getResultFuture).orElse(null));
+                }));
+    }
+
+    /**
+     * Unscoped result endpoints resolve the latest job on each request, so a cursor of an earlier request may belong
+     * to another job. Clients resuming from a cursor must use the job scoped endpoint instead.
+     * @param ctx
+     * @param scopedPath
+     */
+    private void rejectUnscopedCursor(RoutingContext ctx, String scopedPath) {
+        ctx.response()
+                .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                .end("Result cursors are only supported on job scoped endpoints - use %s".formatted(scopedPath));
+    }
+
+    private void addRunEndpoints(Router router) {
+        router.get("/run")
+                .handler(wrapThrowingHandler(ctx ->
+                        runTestsAsync(constructRunConfig(ctx.request().params()), ctx)));
+        router.post("/run")
+                .handler(wrapThrowingHandler(ctx ->
+                        runTestsAsync(constructRunConfig(ctx), ctx)));
+        router.put("/run")
+                .handler(wrapThrowingHandler(ctx -> {
+                    submitJob(constructRunConfig(ctx));
+                    ctx.response().end("");
+                }));
+    }
+
+    private void addJobEndpoints(Router router) {
+        router.post("/jobs")
+                .handler(wrapThrowingHandler(ctx -> {
+                    RemoteJob job = submitJob(constructRunConfig(ctx));
+                    ctx.response()
+                            .setStatusCode(HttpResponseStatus.CREATED.code())
+                            .putHeader(HttpHeaders.LOCATION, "/jobs/" + job.getId())
+                            .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                            .end(responseTransformer.render(job.toInfo()));
+                }));
+        router.get("/jobs")
+                .handler(wrapThrowingHandler(ctx -> ctx.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                        .end(responseTransformer.render(jobRegistry.getJobs().stream()
+                                .map(RemoteJob::toInfo)
+                                .toList()))));
+        router.get("/jobs/:id")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job -> ctx.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                        .end(responseTransformer.render(job.toInfo())))));
+        router.get("/jobs/:id/results")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job ->
+                        handleResults(ctx, job.getRemoteTestListener(), job.getResultFuture()))));
+        router.get("/jobs/:id/results/stream")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job ->
+                        streamResults(ctx, job.getRemoteTestListener(), job.getResultFuture()))));
+    }
+
+    private void addWarmupEndpoints(Router router) {
+        router.post("/warmup")
+                .handler(wrapThrowingHandler(ctx ->
+                        executeBlocking(ctx, remoteContext.getWarmContext()::warmup, state -> ctx.response()
+                                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                                .end(responseTransformer.render(state)))));
+        router.get("/warmup")
+                .handler(wrapThrowingHandler(ctx ->
+                        ctx.response()
+                                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                                .end(responseTransformer.render(remoteContext.getWarmContext().getState()))));
+    }
+
+    /**
+     * Gets the test listener of the most recent job or the default listener when no job has been submitted yet.
+     * @return
+     */
+    private RemoteTestListener currentListener() {
+        return remoteContext.currentListener();
+    }
+
+    /**
+     * Responds with the results of given listener. Waits for the run to complete within the given timeout and
+     * responds with partial content otherwise. Uses incremental long polling when a sequence cursor is given.
+     * @param ctx
+     * @param listener
+     * @param runFuture
+     */
+    private void handleResults(RoutingContext ctx, RemoteTestListener listener, Future<List<RemoteResult>> runFuture) {
+        long timeout = Optional.ofNullable(ctx.request().params().get("timeout"))
+                .map(Long::valueOf)
+                .orElse(10000L);
+
+        HttpServerResponse response = ctx.response();
+        response.putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
+
+        String since = ctx.request().params().get("since");
+        if (since != null) {
+            awaitResultsSince(ctx, listener, runFuture, Long.parseLong(since), timeout);
+        } else if (runFuture != null) {
+            runFuture.timeout(timeout, TimeUnit.MILLISECONDS)
+                    .onSuccess(results -> renderResults(ctx, results))
+                    .onFailure(throwable -> {
+                        response.setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code());
+                        renderResults(ctx, listener.toRemoteResults());
+                    });
+        } else {
+            final List<RemoteResult> results = listener.toRemoteResults();
+            logger.info("results = {}", results.size());
+            renderResults(ctx, results);
+        }
+    }
+
+    /**
+     * Long polling for results reported after given sequence cursor. Responds immediately when new results are available
+     * or the test run has finished. Otherwise, the request is held until the next result arrives, the run completes or the
+     * timeout expires. Responds with partial content status as long as the test run is in progress.
+     * @param ctx
+     * @param listener
+     * @param runFuture
+     * @param since
+     * @param timeout
+     */
+    private void awaitResultsSince(RoutingContext ctx, RemoteTestListener listener,
+                                   Future<List<RemoteResult>> runFuture, long since, long timeout) {
+        if (runFuture == null || runFuture.isComplete() || listener.getSequence() != since) {
+            respondWithResultsSince(ctx, listener, runFuture, since);
+            return;
+        }
+
+        Context context = ctx.vertx().getOrCreateContext();
+        Promise<Void> trigger = Promise.promise();
+        BiConsumer<Long, RemoteResult> subscriber = (sequence, result) ->
+                context.runOnContext(unused -> trigger.tryComplete());
+        Runnable completion = () -> context.runOnContext(unused -> trigger.tryComplete());
+        long timer = ctx.vertx().setTimer(timeout, id -> trigger.tryComplete());
+        ctx.response().closeHandler(unused -> trigger.tryComplete());
+
+        trigger.future().onComplete(unused -> {
+            ctx.vertx().cancelTimer(timer);
+            listener.unsubscribe(subscriber);
+            listener.unsubscribeCompletion(completion);
+            respondWithResultsSince(ctx, listener, runFuture, since);
+        });
+
+        listener.subscribe(since, subscriber);
+        listener.subscribeCompletion(completion);
+    }
+
+    private void respondWithResultsSince(RoutingContext ctx, RemoteTestListener listener,
+                                         Future<List<RemoteResult>> runFuture, long since) {
+        HttpServerResponse response = ctx.response();
+        if (response.ended() || response.closed()) {
+            return;
+        }
+
+        if (runFuture != null && runFuture.failed()) {
+            response.setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code())
+                    .end(runFuture.cause().getMessage());
+            return;
+        }
+
+        boolean completed = runFuture == null || runFuture.isComplete();
+        RemoteResultDelta delta = listener.resultsSince(since);
+        delta.setCompleted(completed);
+        if (!completed) {
+            response.setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code());
+        }
+        renderResults(ctx, delta);
+    }
+
+    /**
+     * Streams given results into the response using the encoding negotiated with the Accept header. JSON output
+     * is compact unless clients ask for pretty printed output with the pretty query parameter. Results are serialized
+     * on a worker thread directly into the chunked response, throttled by the response write queue.
+     * @param ctx
+     * @param results
+     */
+    private void renderResults(RoutingContext ctx, Object results) {
+        ResultEncoding encoding = Optional.ofNullable(ctx.getAcceptableContentType())
+                .flatMap(ResultEncoding::fromMediaType)
+                .orElseGet(() -> ResultEncoding.fromAccept(ctx.request().getHeader(HttpHeaders.ACCEPT)));
+        boolean pretty = Boolean.parseBoolean(ctx.request().getParam("pretty"));
+
+        HttpServerResponse response = ctx.response()
+                .setChunked(true)
+                .putHeader(HttpHeaders.CONTENT_TYPE, encoding.getMediaType());
+
+        Context context = vertx.getOrCreateContext();
+        executeBlocking(ctx, () -> {
+            try (BlockingResponseOutputStream out = new BlockingResponseOutputStream(response, context)) {
+                responseTransformer.write(out, results, pretty, encoding);
+            }
+            return encoding;
+        }, written -> response.end());
+    }
+
+    /**
+     * Streams results of given listener as server-sent events. Clients reconnecting with the Last-Event-ID header
+     * only receive the results reported after that event. The stream ends with a completed event once the given
+     * run future completes. Responds with bad request status for an invalid event id.
+     * @param ctx
+     * @param listener
+     * @param runFuture
+     */
+    private void streamResults(RoutingContext ctx, RemoteTestListener listener, Future<List<RemoteResult>> runFuture) {
+        String lastEventId = lastEventId(ctx);
+
+        long since = 0L;
+        if (lastEventId != null) {
+            try {
+                since = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                since = -1L;
+            }
+
+            if (since < 0) {
+                ctx.response()
+                        .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                        .end("Invalid Last-Event-ID: %s".formatted(lastEventId));
+                return;
+            }
+        }
+
+        new ResultEventStream(ctx.vertx(), ctx.response(), listener, responseTransformer)
+                .start(since, runFuture, STREAM_HEARTBEAT_INTERVAL);
+    }
+
+    /**
+     * Gets the id of the last event received by a reconnecting client, either from the Last-Event-ID header
+     * or from the lastEventId query parameter.
+     * @param ctx
+     * @return
+     */
+    private static String lastEventId(RoutingContext ctx) {
+        return Optional.ofNullable(ctx.request().getHeader("Last-Event-ID"))
+                .orElseGet(() -> ctx.request().params().get("lastEventId"));
+    }
+
+    private TestRunConfiguration constructRunConfig(MultiMap queryParams)
+            throws UnsupportedEncodingException {
+        TestRunConfiguration runConfiguration = new TestRunConfiguration();
+        if (queryParams.contains("engine")) {
+            String engine = queryParams.get("engine");
+            runConfiguration.setEngine(URLDecoder.decode(engine, ENCODING));
+        } else {
+            runConfiguration.setEngine(configuration.getEngine());
+        }
+
+        if (queryParams.contains("includes")) {
+            String value = queryParams.get("includes");
+            runConfiguration.setIncludes(URLDecoder.decode(value, ENCODING)
+                    .split(","));
+        }
+
+        if (queryParams.contains("package")) {
+            String value = queryParams.get("package");
+            runConfiguration.setPackages(Collections.singletonList(
+                    URLDecoder.decode(value, ENCODING)));
+        }
+
+        if (queryParams.contains("class")) {
+            String value = queryParams.get("class");
+            runConfiguration.setTestSources(Collections.singletonList(
+                    TestClass.fromString(URLDecoder.decode(value, ENCODING))));
+        }
+        return runConfiguration;
+    }
+
+    private TestRunConfiguration constructRunConfig(RoutingContext ctx) {
+        RequestBody body = ctx.body();
+        Optional<ResultEncoding> encoding = ResultEncoding.fromMediaType(ctx.request().getHeader(HttpHeaders.CONTENT_TYPE))
+                .filter(ResultEncoding::isBinary);
+        if (encoding.isPresent()) {
+            return requestTransformer.read(body.buffer().getBytes(), TestRunConfiguration.class, encoding.get());
+        }
+
+        return requestTransformer.read(body.asString(), TestRunConfiguration.class);
+    }
+
+    private void runTestsAsync(
+            TestRunConfiguration runConfiguration,
+            RoutingContext ctx) {
+        submitJob(runConfiguration).getResultFuture()
+                .onSuccess(results -> renderResults(ctx, results))
+                .onFailure(error -> ctx.response()
+                        .setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code())
+                        .end(error.getMessage()));
+    }
+
+    /**
+     * Starts new job for given run configuration asynchronously and registers it.
+     * Throws {@link JobRejectedException} when the job executor is saturated.
+     * @param runConfiguration
+     * @return
+     */
+    private RemoteJob submitJob(TestRunConfiguration runConfiguration) {
+        return remoteContext.submitJob(runConfiguration);
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.citrusframework.remote.CitrusRemoteContext;
+import org.citrusframework.remote.http.BlockingResponseOutputStream;
+import org.citrusframework.remote.http.ByteRange;
+import org.citrusframework.remote.job.RemoteJob;
+import org.citrusframework.remote.model.RemoteReportManifest;
+import org.citrusframework.remote.report.RemoteReports;
+import org.citrusframework.remote.report.ReportArchive;
+import org.citrusframework.remote.report.ReportIndex;
+import org.citrusframework.remote.report.ReportIndex.ReportFile;
+import org.citrusframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.citrusframework.remote.CitrusRemoteApplication.wrapThrowingHandler;
+
+/**
+ * Handler for the routes serving report files, report archives and incremental report syncs.
+ *
+ * @since 4.11
+ */
+public class ReportHandler extends AbstractHandler {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ReportHandler.class);
+
+    /** Cached listing of the report directories */
+    private final ReportIndex reportIndex;
+
+    /**
+     * Constructor using the Vert.x instance and the server context.
+     * @param vertx
+     * @param remoteContext
+     */
+    public ReportHandler(Vertx vertx, CitrusRemoteContext remoteContext) {
+        super(vertx, remoteContext);
+        this.reportIndex = remoteContext.getReportIndex();
+    }
+
+    @Override
+    public void addRoutes(Router router) {
+        addFilesEndpoint(router);
+        addResultsEndpoints(router);
+        addJobEndpoints(router);
+    }
+
+    private void addFilesEndpoint(Router router) {
+        router.get("/files/:name")
+                .handler(wrapThrowingHandler(ctx -> {
+                    Path file = Path.of(ctx.pathParam("name"));
+                    ctx.response()
+                            .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_OCTET_STREAM)
+                            .putHeader(
+                                    HttpHeaders.CONTENT_DISPOSITION,
+                                    "attachment; filename=\"" + file.getFileName() + "\"");
+                    sendFile(ctx, file, "");
+                }));
+    }
+
+    private void addResultsEndpoints(Router router) {
+        router.get("/results/files")
+                .handler(wrapThrowingHandler(ctx ->
+                        listReportFiles(ctx, Path.of(RemoteReports.getJUnitReportsFolder()))));
+        router.get("/results/file/:name")
+                .handler(wrapThrowingHandler(ctx ->
+                        sendReportFile(ctx, Path.of(RemoteReports.getJUnitReportsFolder()))));
+        router.get("/results/archive")
+                .handler(wrapThrowingHandler(ctx -> sendArchive(ctx, reportArchive())));
+        router.post("/results/sync")
+                .handler(wrapThrowingHandler(ctx -> syncReports(ctx, reportArchive())));
+        router.get("/results/suite")
+                .handler(wrapThrowingHandler(ctx -> {
+                    ctx.response().putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
+                    Path suiteResultFile = RemoteReports.getSuiteReportFile();
+                    sendReportFile(ctx, suiteResultFile.getParent(), suiteResultFile.getFileName().toString(),
+                            "Failed to find suite result file: %s".formatted(suiteResultFile));
+                }));
+    }
+
+    private void addJobEndpoints(Router router) {
+        router.get("/jobs/:id/results/files")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job ->
+                        listReportFiles(ctx, job.getJUnitReportsDirectory()))));
+        router.get("/jobs/:id/results/archive")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job ->
+                        sendArchive(ctx, reportArchive(job)))));
+        router.post("/jobs/:id/results/sync")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job ->
+                        syncReports(ctx, reportArchive(job)))));
+        router.get("/jobs/:id/results/file/:name")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job ->
+                        sendReportFile(ctx, job.getJUnitReportsDirectory()))));
+        router.get("/jobs/:id/results/suite")
+                .handler(wrapThrowingHandler(ctx -> withJob(ctx, job -> {
+                    ctx.response().putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
+                    Path suiteResultFile = job.getSuiteReportFile();
+                    sendReportFile(ctx, suiteResultFile.getParent(), suiteResultFile.getFileName().toString(),
+                            "Failed to find suite result file: %s".formatted(suiteResultFile));
+                })));
+    }
+
+    /**
+     * Responds with the names of the report files in given folder. Served from the report index, the folder only gets
+     * scanned on a worker thread when it has not been indexed yet.
+     * @param ctx
+     * @param reportsFolder
+     */
+    private void listReportFiles(RoutingContext ctx, Path reportsFolder) {
+        Optional<List<ReportFile>> indexed = reportIndex.list(reportsFolder);
+        if (indexed.isPresent()) {
+            respondWithReportFiles(ctx, indexed.get());
+        } else {
+            executeBlocking(ctx, () -> reportIndex.refresh(reportsFolder),
+                    reportFiles -> respondWithReportFiles(ctx, reportFiles));
+        }
+    }
+
+    private void respondWithReportFiles(RoutingContext ctx, List<ReportFile> reportFiles) {
+        String listing = responseTransformer.render(reportFiles.stream()
+                .map(ReportFile::name)
+                .toList());
+        ctx.etag("W/\"%x-%x\"".formatted(listing.length(), listing.hashCode()));
+        if (ctx.isFresh()) {
+            ctx.response().setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+
+        ctx.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                .end(listing);
+    }
+
+    private void sendReportFile(RoutingContext ctx, Path reportsFolder) {
+        ctx.response().putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_XML);
+        String fileName = ctx.pathParam("name");
+        sendReportFile(ctx, reportsFolder, fileName,
+                "Failed to find test result file: %s".formatted(fileName));
+    }
+
+    /**
+     * Sends report file using the content hash and modification time of the report index as validators. The index
+     * entry is checked against the file attributes on a worker thread and refreshed when the file has changed, so
+     * the validators always match the file sent.
+     * @param ctx
+     * @param reportsFolder
+     * @param fileName
+     * @param notFoundMessage
+     */
+    private void sendReportFile(RoutingContext ctx, Path reportsFolder, String fileName, String notFoundMessage) {
+        Path file = reportsFolder.resolve(fileName);
+        executeBlocking(ctx, () -> reportIndex.current(reportsFolder, fileName), reportFile -> {
+            if (reportFile.isEmpty()) {
+                ctx.response().setStatusCode(HttpResponseStatus.NOT_FOUND.code()).end(notFoundMessage);
+                return;
+            }
+
+            sendFile(ctx, file, reportFile.get().size(),
+                    Instant.ofEpochMilli(reportFile.get().lastModified()),
+                    "\"%s\"".formatted(reportFile.get().sha256()));
+        });
+    }
+
+    private static ReportArchive reportArchive() {
+        return new ReportArchive(
+                Path.of(RemoteReports.getJUnitReportsFolder()),
+                RemoteReports.getSuiteReportFile());
+    }
+
+    private static ReportArchive reportArchive(RemoteJob job) {
+        return new ReportArchive(
+                job.getJUnitReportsDirectory(),
+                job.getSuiteReportFile());
+    }
+
+    /**
+     * Incremental report sync. Compares the posted manifest of report files the client already holds with the
+     * report index and streams an archive of the new and changed report files only. Responds with no content
+     * when the client is up to date.
+     * @param ctx
+     * @param archive
+     */
+    private void syncReports(RoutingContext ctx, ReportArchive archive) {
+        String body = ctx.body().asString();
+        RemoteReportManifest manifest = StringUtils.hasText(body) ?
+                requestTransformer.read(body, RemoteReportManifest.class) : new RemoteReportManifest();
+
+        executeBlocking(ctx, () -> archive.changedEntries(reportIndex, manifest), changed -> {
+            logger.debug("Report sync - sending {} new or changed report files, client holds {} files",
+                    changed.size(), manifest.getFiles().size());
+            if (changed.isEmpty()) {
+                ctx.response().setStatusCode(HttpResponseStatus.NO_CONTENT.code()).end();
+            } else {
+                sendArchive(ctx, archive.filter(changed::contains));
+            }
+        });
+    }
+
+    /**
+     * Streams given report archive as zip file. The archive is written on a worker thread directly into the
+     * chunked response, throttled by the response write queue. Archive entries are already compressed, so
+     * HTTP compression is skipped.
+     * @param ctx
+     * @param archive
+     */
+    private void sendArchive(RoutingContext ctx, ReportArchive archive) {
+        HttpServerResponse response = ctx.response()
+                .setChunked(true)
+                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_ZIP)
+                .putHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"citrus-reports.zip\"")
+                .putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+
+        Context context = vertx.getOrCreateContext();
+        executeBlocking(ctx, () -> archive.writeTo(new BlockingResponseOutputStream(response, context)),
+                entries -> {
+                    logger.debug("Sent report archive with {} files", entries);
+                    response.end();
+                });
+    }
+
+    /**
+     * Sends given file with ETag and Last-Modified validators derived from the file size and modification time.
+     * Responds with not modified status when the client's If-None-Match or If-Modified-Since header matches the
+     * current file version and with not found status when the file does not exist.
+     * @param ctx
+     * @param file
+     * @param notFoundMessage
+     */
+    private void sendFile(RoutingContext ctx, Path file, String notFoundMessage) {
+        executeBlocking(ctx, () -> Files.isRegularFile(file) ?
+                Files.readAttributes(file, BasicFileAttributes.class) : null, attributes -> {
+            HttpServerResponse response = ctx.response();
+            if (attributes == null) {
+                response.setStatusCode(HttpResponseStatus.NOT_FOUND.code()).end(notFoundMessage);
+                return;
+            }
+
+            sendFile(ctx, file, attributes.size(),
+                    attributes.lastModifiedTime().toInstant(),
+                    "\"%x-%x\"".formatted(attributes.size(), attributes.lastModifiedTime().toMillis()));
+        });
+    }
+
+    /**
+     * Sends given file with its validators. Responds with not modified status when the conditional request headers
+     * match the current file version. Honors single byte Range requests, guarded by If-Range, with partial content
+     * responses so clients are able to resume interrupted downloads. Ranges are sent uncompressed as the byte
+     * positions refer to the file content.
+     * @param ctx
+     * @param file
+     * @param size
+     * @param lastModified
+     * @param etag
+     */
+    private void sendFile(RoutingContext ctx, Path file, long size, Instant lastModified, String etag) {
+        HttpServerResponse response = ctx.response();
+        ctx.etag(etag).lastModified(lastModified);
+        response.putHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (ctx.isFresh()) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+
+        Optional<ByteRange> range = ByteRange.parse(ctx.request().getHeader(HttpHeaders.RANGE), size)
+                .filter(byteRange -> ByteRange.matchesIfRange(
+                        ctx.request().getHeader(HttpHeaders.IF_RANGE), etag, lastModified));
+        if (range.isEmpty()) {
+            response.sendFile(file.toString());
+        } else if (!range.get().isSatisfiable(size)) {
+            response.setStatusCode(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code())
+                    .putHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .end();
+        } else {
+            response.setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code())
+                    .putHeader(HttpHeaders.CONTENT_RANGE, range.get().toContentRange(size))
+                    .putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY)
+                    .sendFile(file.toString(), range.get().start(), range.get().length());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.history;
+
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.util.PropertiesFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Duration history of test classes persisted in a properties file. The duration of a test class is the sum of the
+ * durations of its tests, smoothed with the previously recorded duration so that a single slow run does not turn
+ * the estimate upside down. Estimates are used to start the longest test classes first, which keeps parallel workers
+ * and servers busy for about the same time (longest processing time first scheduling).
+ *
+ * @since 4.11
+ */
+public class DurationHistory {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(DurationHistory.class);
+
+    /** Properties file holding the history */
+    private final Path file;
+
+    /** Recorded duration in milliseconds per test class */
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor loading the history from given file, if present.
+     * @param file
+     */
+    public DurationHistory(Path file) {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * Records the durations of given test results per test class and saves the history. Skipped tests are ignored.
+     * @param results
+     */
+    public synchronized void record(Collection<RemoteResult> results) {
+        Map<String, Long> classDurations = new HashMap<>();
+        for (RemoteResult result : results) {
+            if (result.getTestClass() == null || result.getDurationMillis() == null || result.isSkipped()) {
+                continue;
+            }
+            classDurations.merge(result.getTestClass(), result.getDurationMillis(), Long::sum);
+        }
+
+        if (classDurations.isEmpty()) {
+            return;
+        }
+
+        classDurations.forEach((testClass, duration) ->
+                durations.merge(testClass, duration, (previous, latest) -> (previous + latest) / 2));
+        save();
+    }
+
+    /**
+     * Gets the estimated duration of given test class in milliseconds. Falls back to the simple class name when
+     * the fully qualified name has no history and to the default estimate when there is no history at all.
+     * @param testClass
+     * @param defaultEstimate
+     * @return
+     */
+    public long estimate(String testClass, long defaultEstimate) {
+        Long duration = durations.get(testClass);
+        if (duration == null && testClass.contains(".")) {
+            duration = durations.get(testClass.substring(testClass.lastIndexOf('.') + 1));
+        }
+        return duration != null ? duration : defaultEstimate;
+    }
+
+    /**
+     * Sorts given tests by estimated duration, longest first. Tests with equal estimates keep their order.
+     * @param tests
+     * @param testClass
+     * @param defaultEstimate
+     * @return
+     * @param <T>
+     */
+    public <T> List<T> longestFirst(Collection<T> tests, Function<T, String> testClass, long defaultEstimate) {
+        return tests.stream()
+                .sorted(Comparator.comparingLong((T test) -> estimate(testClass.apply(test), defaultEstimate)).reversed())
+                .toList();
+    }
+
+    /**
+     * Checks if there is no recorded duration at all.
+     * @return
+     */
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+
+    private void load() {
+        Properties properties;
+        try {
+            properties = PropertiesFiles.load(file);
+        } catch (IOException e) {
+            logger.warn("Failed to load test duration history from {}", file, e);
+            return;
+        }
+
+        for (String testClass : properties.stringPropertyNames()) {
+            try {
+                durations.put(testClass, Long.parseLong(properties.getProperty(testClass)));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid duration of test class {}", testClass);
+            }
+        }
+    }
+
+    private void save() {
+        Properties properties = new Properties();
+        durations.forEach((testClass, duration) -> properties.setProperty(testClass, String.valueOf(duration)));
+
+        try {
+            PropertiesFiles.store(file, properties, "Test class durations in milliseconds");
+        } catch (IOException e) {
+            logger.warn("Failed to save test duration history to {}", file, e);
+        }
+    }
+
+    /**
+     * Gets the file.
+     * @return
+     */
+    public Path getFile() {
+        return file;
+    }
+}
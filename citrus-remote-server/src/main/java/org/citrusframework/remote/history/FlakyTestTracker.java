@@ -0,0 +1,126 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.history;
+
+import org.citrusframework.remote.model.RemoteFlakyTest;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.util.PropertiesFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Tracks per test across all jobs how often it has been run and how often it has been flaky, i.e. failed and
+ * passed in the same job. The counts are persisted in a properties file.
+ *
+ * @since 4.11
+ */
+public class FlakyTestTracker {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(FlakyTestTracker.class);
+
+    /** Properties file holding the counts */
+    private final Path file;
+
+    /** Run and flaky counts per test key */
+    private final Map<String, long[]> counts = new LinkedHashMap<>();
+
+    /**
+     * Constructor loading the counts from given file, if present.
+     * @param file
+     */
+    public FlakyTestTracker(Path file) {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * Counts the given results of a job and saves the counts. Skipped tests are ignored.
+     * @param results
+     */
+    public synchronized void record(Collection<RemoteResult> results) {
+        boolean changed = false;
+        for (RemoteResult result : results) {
+            if (result.isSkipped()) {
+                continue;
+            }
+
+            long[] count = counts.computeIfAbsent(RemoteResult.testKey(result), key -> new long[2]);
+            count[0]++;
+            if (result.isFlaky()) {
+                count[1]++;
+            }
+            changed = true;
+        }
+
+        if (changed) {
+            save();
+        }
+    }
+
+    /**
+     * Gets all tests that have been flaky at least once, highest flake rate first.
+     * @return
+     */
+    public synchronized List<RemoteFlakyTest> getFlakyTests() {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue()[1] > 0)
+                .map(entry -> RemoteFlakyTest.of(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .sorted(Comparator.comparingDouble(RemoteFlakyTest::getFlakeRate).reversed()
+                        .thenComparing(Comparator.comparingLong(RemoteFlakyTest::getRuns).reversed()))
+                .toList();
+    }
+
+    private void load() {
+        Properties properties;
+        try {
+            properties = PropertiesFiles.load(file);
+        } catch (IOException e) {
+            logger.warn("Failed to load flaky test counts from {}", file, e);
+            return;
+        }
+
+        for (String testKey : properties.stringPropertyNames()) {
+            String[] values = properties.getProperty(testKey).split(",");
+            try {
+                counts.put(testKey, new long[] { Long.parseLong(values[0]), Long.parseLong(values[1]) });
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                logger.debug("Ignoring invalid flaky test counts of {}", testKey);
+            }
+        }
+    }
+
+    private void save() {
+        Properties properties = new Properties();
+        counts.forEach((testKey, count) -> properties.setProperty(testKey, count[0] + "," + count[1]));
+
+        try {
+            PropertiesFiles.store(file, properties, "Test runs and flaky runs per test");
+        } catch (IOException e) {
+            logger.warn("Failed to save flaky test counts to {}", file, e);
+        }
+    }
+}
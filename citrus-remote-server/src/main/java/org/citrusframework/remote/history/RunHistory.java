@@ -0,0 +1,425 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.remote.model.RemoteHistoryEntry;
+import org.citrusframework.remote.model.RemoteHistoryPage;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.util.Sha256;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * History of the test results of all completed jobs with on-disk indexes for querying by test class, test name,
+ * status and time range.
+ * <p>
+ * Entries are appended to a data file as length prefixed Json records. Index files are append-only lists of entry
+ * positions in the data file, one file per test class, test name and status plus one file listing all entries.
+ * As entries are only appended, positions in each index file are sorted, so filters are combined by intersecting
+ * sorted lists and a time range is a range of positions. The job index maps the recording time of each job to the
+ * position of its first entry and is searched binary for the positions of a time range. Queries read only the
+ * matching index files and the entries of the requested page, never the whole data file.
+ *
+ * @since 4.11
+ */
+public class RunHistory {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(RunHistory.class);
+
+    /** Size of a job index record holding recording time and position of the first entry */
+    private static final int JOB_RECORD_SIZE = 2 * Long.BYTES;
+
+    private final Path directory;
+    private final Path dataFile;
+    private final Path entriesIndex;
+    private final Path jobsIndex;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /** Queries run in parallel, recording a job is exclusive */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Recording time of the last job, keeps recording times in order even when the clock is set back */
+    private long lastRecorded;
+
+    /**
+     * History query with optional filters and pagination.
+     * @param testClass
+     * @param testName
+     * @param status
+     * @param from start of time range in milliseconds since epoch, inclusive
+     * @param to end of time range in milliseconds since epoch, inclusive
+     * @param offset
+     * @param limit
+     */
+    public record Query(String testClass, String testName, String status, Long from, Long to, int offset, int limit) {
+
+        /**
+         * Normalizes the status filter to upper case and rejects unknown statuses, as the status selects an index file.
+         */
+        public Query {
+            if (status != null) {
+                status = status.toUpperCase(Locale.ROOT);
+                verifyStatus(status);
+            }
+        }
+    }
+
+    /**
+     * Constructor using the history directory.
+     * @param directory
+     */
+    public RunHistory(Path directory) {
+        this.directory = directory;
+        this.dataFile = directory.resolve("entries.dat");
+        this.entriesIndex = directory.resolve("entries.idx");
+        this.jobsIndex = directory.resolve("jobs.idx");
+    }
+
+    /**
+     * Appends the results of a completed job to the history and updates the indexes.
+     * @param jobId
+     * @param results
+     */
+    public void record(String jobId, List<RemoteResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(directory);
+            long recorded = Math.max(System.currentTimeMillis(), lastRecorded);
+            lastRecorded = recorded;
+
+            List<Long> positions = new ArrayList<>();
+            Map<Path, List<Long>> postings = new LinkedHashMap<>();
+            ByteArrayOutputStream entries = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(entries);
+
+            long start;
+            try (FileChannel data = FileChannel.open(dataFile, CREATE, WRITE, APPEND)) {
+                start = data.size();
+                for (RemoteResult result : results) {
+                    RemoteHistoryEntry entry = RemoteHistoryEntry.of(jobId, recorded, result);
+                    long position = start + out.size();
+                    byte[] json = mapper.writeValueAsBytes(entry);
+                    out.writeInt(json.length);
+                    out.write(json);
+
+                    positions.add(position);
+                    addPosting(postings, keyIndex("class", entry.getTestClass()), position);
+                    addPosting(postings, keyIndex("name", entry.getTestName()), position);
+                    addPosting(postings, statusIndex(entry.getStatus()), position);
+                }
+
+                write(data, ByteBuffer.wrap(entries.toByteArray()));
+                data.force(false);
+            }
+
+            appendPositions(entriesIndex, positions);
+            for (Map.Entry<Path, List<Long>> posting : postings.entrySet()) {
+                appendPositions(posting.getKey(), posting.getValue());
+            }
+
+            Files.createDirectories(jobsIndex.getParent());
+            try (FileChannel jobs = FileChannel.open(jobsIndex, CREATE, WRITE, APPEND)) {
+                write(jobs, ByteBuffer.allocate(JOB_RECORD_SIZE).putLong(recorded).putLong(start).flip());
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to record history of job {}", jobId, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the history entries matching given query, newest first.
+     * @param query
+     * @return
+     */
+    public RemoteHistoryPage query(Query query) {
+        lock.readLock().lock();
+        try {
+            RemoteHistoryPage page = new RemoteHistoryPage();
+            page.setOffset(query.offset());
+            page.setLimit(query.limit());
+            if (!Files.isRegularFile(dataFile)) {
+                return page;
+            }
+
+            long[] range = positionRange(query.from(), query.to());
+
+            List<Path> filters = new ArrayList<>();
+            if (query.testClass() != null) {
+                filters.add(keyIndex("class", query.testClass()));
+            }
+            if (query.testName() != null) {
+                filters.add(keyIndex("name", query.testName()));
+            }
+            if (query.status() != null) {
+                filters.add(statusIndex(query.status()));
+            }
+
+            try (FileChannel data = FileChannel.open(dataFile, READ)) {
+                if (filters.isEmpty()) {
+                    queryAll(data, range, query, page);
+                } else {
+                    queryFiltered(data, filters, range, query, page);
+                }
+            }
+            return page;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to query run history", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Pages through the index of all entries without loading it.
+     */
+    private void queryAll(FileChannel data, long[] range, Query query, RemoteHistoryPage page) throws IOException {
+        if (!Files.isRegularFile(entriesIndex)) {
+            return;
+        }
+
+        try (FileChannel index = FileChannel.open(entriesIndex, READ)) {
+            long size = index.size() / Long.BYTES;
+            long first = lowerBound(index, size, range[0]);
+            long last = lowerBound(index, size, range[1]);
+            page.setTotal(last - first);
+
+            for (long i = last - 1 - query.offset(); i >= first && page.getEntries().size() < query.limit(); i--) {
+                page.getEntries().add(readEntry(data, readLong(index, i)));
+            }
+        }
+    }
+
+    /**
+     * Intersects the index files of all filters within the position range.
+     */
+    private void queryFiltered(FileChannel data, List<Path> filters, long[] range, Query query,
+                               RemoteHistoryPage page) throws IOException {
+        long[] matches = null;
+        for (Path filter : filters) {
+            long[] positions = readPositions(filter, range);
+            matches = matches == null ? positions : intersect(matches, positions);
+            if (matches.length == 0) {
+                break;
+            }
+        }
+
+        page.setTotal(matches.length);
+        for (int i = matches.length - 1 - query.offset(); i >= 0 && page.getEntries().size() < query.limit(); i--) {
+            page.getEntries().add(readEntry(data, matches[i]));
+        }
+    }
+
+    /**
+     * Gets the data file positions of the time range as start inclusive and end exclusive.
+     */
+    private long[] positionRange(Long from, Long to) throws IOException {
+        long dataSize = Files.size(dataFile);
+        if ((from == null && to == null) || !Files.isRegularFile(jobsIndex)) {
+            return new long[] { 0L, dataSize };
+        }
+
+        try (FileChannel jobs = FileChannel.open(jobsIndex, READ)) {
+            long size = jobs.size() / JOB_RECORD_SIZE;
+            long start = from == null ? 0L : jobPosition(jobs, firstJobAfter(jobs, size, from - 1), size, dataSize);
+            long end = to == null ? dataSize : jobPosition(jobs, firstJobAfter(jobs, size, to), size, dataSize);
+            return new long[] { start, Math.max(start, end) };
+        }
+    }
+
+    /**
+     * Binary search for the first job recorded after given time.
+     */
+    private static long firstJobAfter(FileChannel jobs, long size, long time) throws IOException {
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (readLong(jobs, middle * 2) <= time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long jobPosition(FileChannel jobs, long job, long size, long dataSize) throws IOException {
+        return job < size ? readLong(jobs, job * 2 + 1) : dataSize;
+    }
+
+    /**
+     * Binary search for the first index entry with a position not less than the given position.
+     */
+    private static long lowerBound(FileChannel index, long size, long position) throws IOException {
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (readLong(index, middle) < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long[] readPositions(Path indexFile, long[] range) throws IOException {
+        if (!Files.isRegularFile(indexFile)) {
+            return new long[0];
+        }
+
+        try (FileChannel index = FileChannel.open(indexFile, READ)) {
+            long size = index.size() / Long.BYTES;
+            long first = lowerBound(index, size, range[0]);
+            long last = lowerBound(index, size, range[1]);
+
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact((last - first) * Long.BYTES));
+            while (buffer.hasRemaining()) {
+                if (index.read(buffer, first * Long.BYTES + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+
+            long[] positions = new long[buffer.remaining() / Long.BYTES];
+            buffer.asLongBuffer().get(positions);
+            return positions;
+        }
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] matches = new long[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                matches[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private RemoteHistoryEntry readEntry(FileChannel data, long position) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(data, length, position);
+
+        ByteBuffer json = ByteBuffer.allocate(length.flip().getInt());
+        readFully(data, json, position + Integer.BYTES);
+        return mapper.readValue(json.array(), RemoteHistoryEntry.class);
+    }
+
+    private static long readLong(FileChannel channel, long index) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        readFully(channel, buffer, index * Long.BYTES);
+        return buffer.flip().getLong();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of run history file");
+            }
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void addPosting(Map<Path, List<Long>> postings, Path indexFile, long position) {
+        if (indexFile != null) {
+            postings.computeIfAbsent(indexFile, file -> new ArrayList<>()).add(position);
+        }
+    }
+
+    private static void appendPositions(Path indexFile, List<Long> positions) throws IOException {
+        Files.createDirectories(indexFile.getParent());
+
+        ByteBuffer buffer = ByteBuffer.allocate(positions.size() * Long.BYTES);
+        positions.forEach(buffer::putLong);
+        try (FileChannel index = FileChannel.open(indexFile, CREATE, WRITE, APPEND)) {
+            write(index, buffer.flip());
+        }
+    }
+
+    private Path statusIndex(String status) {
+        if (status == null) {
+            return null;
+        }
+
+        verifyStatus(status);
+        return directory.resolve("status").resolve(status + ".idx");
+    }
+
+    private static void verifyStatus(String status) {
+        if (!RemoteHistoryEntry.STATUS_VALUES.contains(status)) {
+            throw new IllegalArgumentException("Unsupported status " + status);
+        }
+    }
+
+    /**
+     * Index file of a test class or test name. Keys are hashed to get valid file names of fixed length.
+     */
+    private Path keyIndex(String type, String key) {
+        if (key == null) {
+            return null;
+        }
+
+        return directory.resolve(type).resolve(Sha256.hex(key) + ".idx");
+    }
+}
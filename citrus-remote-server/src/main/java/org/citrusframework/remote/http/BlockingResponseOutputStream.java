@@ -0,0 +1,95 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.http;
+
+import io.vertx.core.Context;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Chunked response output stream used from worker threads. Blocks the writing thread while the response write
+ * queue is full so that slow clients throttle the producer instead of buffering the whole payload in memory.
+ * Fails with an I/O exception as soon as the client closes the connection.
+ *
+ * @since 4.11
+ */
+public class BlockingResponseOutputStream extends ChunkedResponseOutputStream {
+
+    /** Interval for checking the connection state while waiting for the write queue to drain */
+    private static final long CLOSED_CHECK_INTERVAL = 1000L;
+
+    /** Event loop context of the response */
+    private final Context context;
+
+    /**
+     * Constructor using response and its event loop context.
+     * @param response
+     * @param context
+     */
+    public BlockingResponseOutputStream(HttpServerResponse response, Context context) {
+        super(response, DEFAULT_CHUNK_SIZE);
+        this.context = context;
+    }
+
+    @Override
+    protected void write(Buffer buffer) throws IOException {
+        awaitWritable();
+        response.write(buffer);
+    }
+
+    private void awaitWritable() throws IOException {
+        if (response.closed()) {
+            throw new IOException("Connection closed by client");
+        }
+
+        if (!response.writeQueueFull()) {
+            return;
+        }
+
+        CompletableFuture<Void> writable = new CompletableFuture<>();
+        context.runOnContext(unused -> {
+            if (response.writeQueueFull()) {
+                response.drainHandler(drained -> writable.complete(null));
+            } else {
+                writable.complete(null);
+            }
+        });
+
+        while (true) {
+            try {
+                writable.get(CLOSED_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                if (response.closed()) {
+                    throw new IOException("Connection closed by client");
+                }
+            } catch (ExecutionException e) {
+                throw new IOException("Failed to wait for response write queue", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for response write queue");
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.http;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Single byte range of a HTTP range request. Multiple ranges and malformed range headers are not supported and
+ * lead to the complete representation being sent, which is what the HTTP specification allows servers to do.
+ *
+ * @param start first byte position, inclusive
+ * @param end last byte position, inclusive
+ * @since 4.11
+ */
+public record ByteRange(long start, long end) {
+
+    /** Range unit supported by this server */
+    private static final String BYTES_UNIT = "bytes=";
+
+    /**
+     * Parses given Range header value for a representation of given size. Empty when the header is missing, malformed
+     * or asks for multiple ranges. Ranges starting beyond the representation are returned as unsatisfiable range.
+     * @param range
+     * @param size
+     * @return
+     */
+    public static Optional<ByteRange> parse(String range, long size) {
+        if (range == null || !range.startsWith(BYTES_UNIT) || range.indexOf(',') >= 0) {
+            return Optional.empty();
+        }
+
+        String spec = range.substring(BYTES_UNIT.length()).trim();
+        int separator = spec.indexOf('-');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            String first = spec.substring(0, separator).trim();
+            String last = spec.substring(separator + 1).trim();
+
+            if (first.isEmpty()) {
+                // suffix range with the number of trailing bytes
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0L) {
+                    return Optional.of(new ByteRange(size, size - 1));
+                }
+                return Optional.of(new ByteRange(Math.max(0L, size - suffixLength), size - 1));
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0L || end < start) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new ByteRange(start, Math.min(end, size - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Evaluates the If-Range precondition. Ranges only apply when the client's validator matches the current
+     * representation, otherwise the complete representation must be sent. Entity tags use strong comparison and
+     * dates must exactly match the last modified time.
+     * @param ifRange
+     * @param etag
+     * @param lastModified
+     * @return
+     */
+    public static boolean matchesIfRange(String ifRange, String etag, Instant lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+
+        String validator = ifRange.trim();
+        if (validator.startsWith("\"") || validator.startsWith("W/")) {
+            return !validator.startsWith("W/") && validator.equals(etag);
+        }
+
+        try {
+            Instant date = ZonedDateTime.parse(validator, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return date.getEpochSecond() == lastModified.getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if this range overlaps with a representation of given size.
+     * @param size
+     * @return
+     */
+    public boolean isSatisfiable(long size) {
+        return start < size && start <= end;
+    }
+
+    /**
+     * Gets the number of bytes in this range.
+     * @return
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Gets the Content-Range header value of this range for a representation of given size.
+     * @param size
+     * @return
+     */
+    public String toContentRange(long size) {
+        return "bytes %d-%d/%d".formatted(start, end, size);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.http;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream writing to a chunked HTTP server response. Collects bytes in a fixed size chunk and writes each
+ * full chunk as a separate buffer to the response so serializers never need to hold the complete payload in memory.
+ * Closing the stream writes the remaining bytes but does not end the response.
+ *
+ * @since 4.11
+ */
+public class ChunkedResponseOutputStream extends OutputStream {
+
+    /** Default size of chunks written to the response */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    protected final HttpServerResponse response;
+    private final byte[] chunk;
+    private int count;
+
+    /**
+     * Constructor using response and chunk size.
+     * @param response
+     * @param chunkSize
+     */
+    public ChunkedResponseOutputStream(HttpServerResponse response, int chunkSize) {
+        this.response = response;
+        this.chunk = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == chunk.length) {
+            flush();
+        }
+        chunk[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (count == chunk.length) {
+                flush();
+            }
+
+            int copied = Math.min(length, chunk.length - count);
+            System.arraycopy(bytes, offset, chunk, count, copied);
+            count += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (count > 0) {
+            write(Buffer.buffer(count).appendBytes(chunk, 0, count));
+            count = 0;
+        }
+    }
+
+    /**
+     * Writes given chunk to the response.
+     * @param buffer
+     * @throws IOException
+     */
+    protected void write(Buffer buffer) throws IOException {
+        response.write(buffer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.http;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import org.citrusframework.remote.listener.RemoteTestListener;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.transformer.JsonResponseTransformer;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Streams the results of a test listener as server-sent events. While the response write queue is full the stream
+ * unsubscribes from the listener and resubscribes from the last written result once the queue has drained, so slow
+ * clients never make the server buffer results. Sends a completed event and ends the response when the test run finishes.
+ * All state is accessed on the event loop context of the response only.
+ *
+ * @since 4.11
+ */
+public class ResultEventStream {
+
+    /** Content type of server-sent events */
+    public static final String TEXT_EVENT_STREAM = "text/event-stream";
+
+    private final Vertx vertx;
+    private final Context context;
+    private final HttpServerResponse response;
+    private final RemoteTestListener listener;
+    private final JsonResponseTransformer transformer;
+
+    /** Current listener subscription, null while paused on a full write queue */
+    private BiConsumer<Long, RemoteResult> subscriber;
+
+    /** Sequence of the last result written to the response */
+    private long lastSequence;
+
+    /** Outcome of the test run, null as long as the run is in progress */
+    private AsyncResult<?> outcome;
+
+    /** Listener completion subscription, null for streams without run future */
+    private Runnable completion;
+
+    private long heartbeat = -1L;
+
+    /**
+     * Constructor using the Vert.x instance, the response and the listener providing the results.
+     * @param vertx
+     * @param response
+     * @param listener
+     * @param transformer
+     */
+    public ResultEventStream(Vertx vertx, HttpServerResponse response, RemoteTestListener listener,
+                             JsonResponseTransformer transformer) {
+        this.vertx = vertx;
+        this.context = vertx.getOrCreateContext();
+        this.response = response;
+        this.listener = listener;
+        this.transformer = transformer;
+    }
+
+    /**
+     * Starts streaming all results reported after given sequence. The stream ends once the given run future
+     * completes, streams without run future stay open until the client disconnects.
+     * @param since
+     * @param runFuture
+     * @param heartbeatInterval
+     */
+    public void start(long since, Future<?> runFuture, long heartbeatInterval) {
+        lastSequence = since;
+        response.setChunked(true)
+                .putHeader(HttpHeaders.CONTENT_TYPE, TEXT_EVENT_STREAM)
+                .putHeader(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .write(":\n\n");
+
+        heartbeat = vertx.setPeriodic(heartbeatInterval, id -> {
+            if (!response.writeQueueFull()) {
+                response.write(":\n\n");
+            }
+        });
+        response.closeHandler(unused -> close());
+
+        subscribe();
+        if (runFuture != null) {
+            completion = () -> context.runOnContext(unused -> complete(runFuture));
+            listener.subscribeCompletion(completion);
+        }
+    }
+
+    private void subscribe() {
+        BiConsumer<Long, RemoteResult> subscription = new BiConsumer<>() {
+            @Override
+            public void accept(Long sequence, RemoteResult result) {
+                context.runOnContext(unused -> writeResult(this, sequence, result));
+            }
+        };
+        subscriber = subscription;
+        listener.subscribe(lastSequence, subscription);
+    }
+
+    /**
+     * Writes server-sent event for given remote result. Each line of the rendered Json payload becomes a data line.
+     * Pauses the subscription when the write queue is full.
+     * @param subscription
+     * @param sequence
+     * @param result
+     */
+    private void writeResult(BiConsumer<Long, RemoteResult> subscription, long sequence, RemoteResult result) {
+        if (subscription != subscriber || sequence <= lastSequence || response.ended() || response.closed()) {
+            return;
+        }
+
+        StringBuilder event = new StringBuilder()
+                .append("id: ").append(sequence).append('\n')
+                .append("event: result\n");
+        transformer.render(result)
+                .lines()
+                .forEach(line -> event.append("data: ").append(line).append('\n'));
+        response.write(event.append('\n').toString());
+        lastSequence = sequence;
+
+        if (response.writeQueueFull()) {
+            pause();
+        }
+    }
+
+    private void pause() {
+        listener.unsubscribe(subscriber);
+        subscriber = null;
+        response.drainHandler(unused -> resume());
+    }
+
+    private void resume() {
+        response.drainHandler(null);
+        if (response.ended() || response.closed()) {
+            return;
+        }
+
+        subscribe();
+        if (outcome != null) {
+            // replayed results are queued on the context before the completion
+            context.runOnContext(unused -> complete(outcome));
+        }
+    }
+
+    /**
+     * Sends the completed event and ends the response once all results have been written.
+     * @param result
+     */
+    private void complete(AsyncResult<?> result) {
+        outcome = result;
+        if (subscriber == null || response.ended() || response.closed()) {
+            return;
+        }
+
+        close();
+        response.end("event: completed\ndata: %s\n\n".formatted(result.succeeded() ? "COMPLETED" : "FAILED"));
+    }
+
+    private void close() {
+        vertx.cancelTimer(heartbeat);
+        if (subscriber != null) {
+            listener.unsubscribe(subscriber);
+            subscriber = null;
+        }
+        if (completion != null) {
+            listener.unsubscribeCompletion(completion);
+            completion = null;
+        }
+    }
+}
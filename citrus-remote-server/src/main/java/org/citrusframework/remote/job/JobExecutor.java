@@ -0,0 +1,149 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.job;
+
+import org.citrusframework.remote.model.RemoteJobMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor running test jobs. Limits the number of concurrently running jobs and the number of jobs
+ * waiting in the queue. Jobs submitted while the executor is saturated get rejected with a suggested retry delay.
+ *
+ * @since 4.11
+ */
+public class JobExecutor {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(JobExecutor.class);
+
+    /** Retry delay suggested as long as no job has finished yet */
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 10L;
+
+    private final ThreadPoolExecutor executor;
+
+    private final int maxConcurrentJobs;
+    private final int queueCapacity;
+
+    private final AtomicLong completedJobs = new AtomicLong();
+    private final AtomicLong rejectedJobs = new AtomicLong();
+    private final AtomicLong totalJobMillis = new AtomicLong();
+
+    /**
+     * Constructor using concurrency limits.
+     * @param maxConcurrentJobs
+     * @param queueCapacity
+     */
+    public JobExecutor(int maxConcurrentJobs, int queueCapacity) {
+        this(maxConcurrentJobs, queueCapacity, threadFactory());
+    }
+
+    /**
+     * Constructor using concurrency limits and thread factory creating the job threads.
+     * @param maxConcurrentJobs
+     * @param queueCapacity
+     * @param threadFactory
+     */
+    public JobExecutor(int maxConcurrentJobs, int queueCapacity, ThreadFactory threadFactory) {
+        this.maxConcurrentJobs = Math.max(1, maxConcurrentJobs);
+        this.queueCapacity = Math.max(0, queueCapacity);
+
+        BlockingQueue<Runnable> queue = this.queueCapacity > 0 ?
+                new ArrayBlockingQueue<>(this.queueCapacity) : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(this.maxConcurrentJobs, this.maxConcurrentJobs,
+                60L, TimeUnit.SECONDS, queue, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicLong count = new AtomicLong();
+        return runnable -> new Thread(runnable, "citrus-remote-job-" + count.incrementAndGet());
+    }
+
+    /**
+     * Submits given job. Throws {@link JobRejectedException} when the executor is saturated.
+     * @param job
+     * @return
+     * @param <T>
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> job) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long start = System.currentTimeMillis();
+                try {
+                    return job.get();
+                } finally {
+                    totalJobMillis.addAndGet(System.currentTimeMillis() - start);
+                    completedJobs.incrementAndGet();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedJobs.incrementAndGet();
+            logger.warn("Rejected job - {} jobs running and {} jobs queued", executor.getActiveCount(), executor.getQueue().size());
+            throw new JobRejectedException("Server is busy running %d jobs with %d jobs queued"
+                    .formatted(executor.getActiveCount(), executor.getQueue().size()), getRetryAfterSeconds());
+        }
+    }
+
+    /**
+     * Estimates the time until the executor is able to take another job based on the average job duration.
+     * @return
+     */
+    private long getRetryAfterSeconds() {
+        long completed = completedJobs.get();
+        if (completed == 0) {
+            return DEFAULT_RETRY_AFTER_SECONDS;
+        }
+
+        long averageJobMillis = totalJobMillis.get() / completed;
+        long waitingJobs = executor.getQueue().size() + 1L;
+        return Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(averageJobMillis * waitingJobs / maxConcurrentJobs));
+    }
+
+    /**
+     * Gets current executor metrics.
+     * @return
+     */
+    public RemoteJobMetrics getMetrics() {
+        RemoteJobMetrics metrics = new RemoteJobMetrics();
+        metrics.setActiveJobs(executor.getActiveCount());
+        metrics.setQueuedJobs(executor.getQueue().size());
+        metrics.setMaxConcurrentJobs(maxConcurrentJobs);
+        metrics.setQueueCapacity(queueCapacity);
+        metrics.setCompletedJobs(completedJobs.get());
+        metrics.setRejectedJobs(rejectedJobs.get());
+        return metrics;
+    }
+
+    /**
+     * Stops accepting new jobs.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.job;
+
+import org.citrusframework.main.TestRunConfiguration;
+import org.citrusframework.remote.store.ResultStore;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Registry of test run jobs on the remote server. Keeps jobs in creation order and evicts the
+ * oldest finished jobs once the maximum number of retained jobs is exceeded.
+ *
+ * @since 4.11
+ */
+public class JobRegistry {
+
+    /** Maximum number of jobs kept in the registry */
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    /** Jobs by id in creation order */
+    private final Map<String, RemoteJob> jobs = new LinkedHashMap<>();
+
+    /** Base directory for job reports */
+    private final Path jobsDirectory;
+
+    /** Stores the test results of all jobs */
+    private final ResultStore resultStore;
+
+    /** Most recently created job */
+    private volatile RemoteJob latest;
+
+    /**
+     * Constructor using base directory for job reports and the result store.
+     * @param jobsDirectory
+     * @param resultStore
+     */
+    public JobRegistry(Path jobsDirectory, ResultStore resultStore) {
+        this.jobsDirectory = jobsDirectory;
+        this.resultStore = resultStore;
+    }
+
+    /**
+     * Registers the jobs found in the result store, e.g. after a server restart. Only the most recent jobs
+     * are restored, the results of older jobs are removed from the store.
+     */
+    public void restore() {
+        List<String> jobIds = resultStore.getJobIds();
+        int evicted = Math.max(0, jobIds.size() - MAX_RETAINED_JOBS);
+        jobIds.subList(0, evicted).forEach(resultStore::delete);
+
+        for (String jobId : jobIds.subList(evicted, jobIds.size())) {
+            resultStore.load(jobId)
+                    .map(storedJob -> RemoteJob.restore(storedJob, jobsDirectory.resolve(jobId), resultStore))
+                    .ifPresent(this::register);
+        }
+    }
+
+    /**
+     * Creates new job for given run configuration. The job is not registered until it has been accepted for execution.
+     * @param runConfiguration
+     * @return
+     */
+    public RemoteJob create(TestRunConfiguration runConfiguration) {
+        String id = UUID.randomUUID().toString();
+        return new RemoteJob(id, runConfiguration, jobsDirectory.resolve(id), resultStore);
+    }
+
+    /**
+     * Registers given job and marks it as the most recent job.
+     * @param job
+     */
+    public void register(RemoteJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            evictFinishedJobs();
+        }
+
+        latest = job;
+    }
+
+    private void evictFinishedJobs() {
+        Iterator<RemoteJob> iterator = jobs.values().iterator();
+        while (jobs.size() > MAX_RETAINED_JOBS && iterator.hasNext()) {
+            RemoteJob job = iterator.next();
+            if (job.isFinished()) {
+                iterator.remove();
+                resultStore.delete(job.getId());
+            }
+        }
+    }
+
+    /**
+     * Gets job by its id.
+     * @param id
+     * @return
+     */
+    public Optional<RemoteJob> get(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    /**
+     * Gets the most recently created job.
+     * @return
+     */
+    public Optional<RemoteJob> latest() {
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * Gets all registered jobs in creation order.
+     * @return
+     */
+    public List<RemoteJob> getJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.job;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Raised when the job executor is saturated and does not accept any further job.
+ *
+ * @since 4.11
+ */
+public class JobRejectedException extends CitrusRuntimeException {
+
+    /** Suggested delay in seconds before the client should retry */
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor using message and retry delay.
+     * @param message
+     * @param retryAfterSeconds
+     */
+    public JobRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Gets the retryAfterSeconds.
+     *
+     * @return
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
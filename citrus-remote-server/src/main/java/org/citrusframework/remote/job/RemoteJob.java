@@ -0,0 +1,308 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.job;
+
+import io.vertx.core.Future;
+import org.citrusframework.main.TestRunConfiguration;
+import org.citrusframework.remote.CitrusRemoteConfiguration;
+import org.citrusframework.remote.deploy.TestJarDeployment;
+import org.citrusframework.remote.history.DurationHistory;
+import org.citrusframework.remote.listener.RemoteTestListener;
+import org.citrusframework.remote.model.RemoteJobInfo;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.store.ResultStore;
+import org.citrusframework.report.JUnitReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test run job registered on the remote server. Each job owns its test listener collecting the results
+ * and a report directory holding the JUnit reports generated from these results.
+ *
+ * @since 4.11
+ */
+public class RemoteJob {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(RemoteJob.class);
+
+    /**
+     * Job lifecycle states.
+     */
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /** Unique job id */
+    private final String id;
+
+    /** Tests to run */
+    private final TestRunConfiguration runConfiguration;
+
+    /** Collects the test results of this job */
+    private final RemoteTestListener remoteTestListener;
+
+    /** Stores the test results of this job */
+    private final ResultStore resultStore;
+
+    /** Directory holding the reports of this job */
+    private final Path reportDirectory;
+
+    /** Writes the JUnit reports of this job to the job report directory */
+    private final JUnitReporter reporter;
+
+    private final long created;
+    private volatile Long started;
+    private volatile Long finished;
+
+    private volatile State state = State.QUEUED;
+    private volatile String errorMessage;
+
+    /** Warmup time credited as saved startup time, zero for all but the first warm job, null without warm context */
+    private volatile Long savedStartupMillis;
+
+    /** Completes with the job results */
+    private volatile Future<List<RemoteResult>> resultFuture;
+
+    /**
+     * Constructor using fields.
+     * @param id
+     * @param runConfiguration
+     * @param reportDirectory
+     * @param resultStore
+     */
+    public RemoteJob(String id, TestRunConfiguration runConfiguration, Path reportDirectory, ResultStore resultStore) {
+        this(id, runConfiguration, reportDirectory, resultStore, System.currentTimeMillis());
+    }
+
+    private RemoteJob(String id, TestRunConfiguration runConfiguration, Path reportDirectory, ResultStore resultStore,
+                      long created) {
+        this.id = id;
+        this.runConfiguration = runConfiguration;
+        this.reportDirectory = reportDirectory;
+        this.resultStore = resultStore;
+        this.remoteTestListener = new RemoteTestListener(resultStore, id);
+        this.created = created;
+
+        this.reporter = new JUnitReporter();
+        this.reporter.setReportDirectory(reportDirectory.toString());
+    }
+
+    /**
+     * Restores a job from its stored results, e.g. after a server restart. Jobs that have not finished
+     * before the server stopped are marked as failed.
+     * @param storedJob
+     * @param reportDirectory
+     * @param resultStore
+     * @return
+     */
+    public static RemoteJob restore(ResultStore.StoredJob storedJob, Path reportDirectory, ResultStore resultStore) {
+        RemoteJob job = new RemoteJob(storedJob.id(), new TestRunConfiguration(), reportDirectory, resultStore,
+                storedJob.created());
+        job.remoteTestListener.restore(storedJob.results());
+        job.setResultFuture(Future.succeededFuture(storedJob.results()));
+
+        if (storedJob.state() != null) {
+            job.state = State.valueOf(storedJob.state());
+        } else {
+            job.state = State.FAILED;
+            job.errorMessage = "Server stopped before the job has finished";
+        }
+        return job;
+    }
+
+    /**
+     * Runs the tests of this job from the server classpath.
+     * @param configuration
+     * @return
+     */
+    public List<RemoteResult> execute(CitrusRemoteConfiguration configuration) {
+        return execute(configuration, null, null);
+    }
+
+    /**
+     * Runs the tests of this job and generates the JUnit reports in the job report directory. Tests are loaded
+     * from the given hot deployed test jar, if any. Test class durations are recorded in the given duration history.
+     * @param configuration
+     * @param deployment
+     * @param durationHistory
+     * @return
+     */
+    public List<RemoteResult> execute(CitrusRemoteConfiguration configuration, TestJarDeployment deployment,
+                                      DurationHistory durationHistory) {
+        started = System.currentTimeMillis();
+        state = State.RUNNING;
+        try {
+            List<RemoteResult> results = new RunJob(configuration, runConfiguration, remoteTestListener,
+                    deployment, durationHistory).get();
+            if (durationHistory != null) {
+                durationHistory.record(results);
+            }
+            state = State.COMPLETED;
+            return results;
+        } catch (RuntimeException e) {
+            errorMessage = e.getMessage();
+            state = State.FAILED;
+            throw e;
+        } finally {
+            generateReports();
+            finished = System.currentTimeMillis();
+            resultStore.finish(id, state.name());
+        }
+    }
+
+    /**
+     * Generates the JUnit reports from the results collected by this job. Reports are written to the
+     * job report directory only, so concurrent jobs never see each other's reports.
+     */
+    private void generateReports() {
+        try {
+            Files.createDirectories(getJUnitReportsDirectory());
+            reporter.generate(remoteTestListener.getResults());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to generate reports of job {}", id, e);
+        }
+    }
+
+    /**
+     * Creates status information for this job.
+     * @return
+     */
+    public RemoteJobInfo toInfo() {
+        RemoteJobInfo info = new RemoteJobInfo();
+        info.setId(id);
+        info.setState(state.name());
+        info.setCreated(created);
+        info.setStarted(started);
+        info.setFinished(finished);
+        info.setErrorMessage(errorMessage);
+        info.setSavedStartupMillis(savedStartupMillis);
+
+        List<RemoteResult> results = remoteTestListener.toRemoteResults();
+        info.setTotal(results.size());
+        info.setSuccess(results.stream().filter(RemoteResult::isSuccess).count());
+        info.setFailed(results.stream().filter(RemoteResult::isFailed).count());
+        info.setSkipped(results.stream().filter(RemoteResult::isSkipped).count());
+        info.setFlaky(results.stream().filter(RemoteResult::isFlaky).count());
+        return info;
+    }
+
+    /**
+     * Checks if the job has finished either successfully or with failure.
+     * @return
+     */
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    /**
+     * Gets the JUnit reports directory of this job.
+     * @return
+     */
+    public Path getJUnitReportsDirectory() {
+        return reportDirectory.resolve(reporter.getOutputDirectory());
+    }
+
+    /**
+     * Gets the JUnit suite report file of this job.
+     * @return
+     */
+    public Path getSuiteReportFile() {
+        return reportDirectory.resolve(String.format(reporter.getReportFileNamePattern(), reporter.getSuiteName()));
+    }
+
+    /**
+     * Gets the id.
+     *
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the runConfiguration.
+     *
+     * @return
+     */
+    public TestRunConfiguration getRunConfiguration() {
+        return runConfiguration;
+    }
+
+    /**
+     * Gets the remoteTestListener.
+     *
+     * @return
+     */
+    public RemoteTestListener getRemoteTestListener() {
+        return remoteTestListener;
+    }
+
+    /**
+     * Gets the reportDirectory.
+     *
+     * @return
+     */
+    public Path getReportDirectory() {
+        return reportDirectory;
+    }
+
+    /**
+     * Gets the state.
+     *
+     * @return
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the resultFuture.
+     *
+     * @return
+     */
+    public Future<List<RemoteResult>> getResultFuture() {
+        return resultFuture;
+    }
+
+    /**
+     * Sets the resultFuture. The test listener of this job notifies its completion subscribers once the future completes.
+     *
+     * @param resultFuture
+     */
+    public void setResultFuture(Future<List<RemoteResult>> resultFuture) {
+        this.resultFuture = resultFuture;
+        resultFuture.onComplete(unused -> remoteTestListener.complete());
+    }
+
+    /**
+     * Sets the savedStartupMillis.
+     *
+     * @param savedStartupMillis
+     */
+    public void setSavedStartupMillis(Long savedStartupMillis) {
+        this.savedStartupMillis = savedStartupMillis;
+    }
+}
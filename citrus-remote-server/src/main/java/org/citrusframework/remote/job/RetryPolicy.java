@@ -0,0 +1,83 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.job;
+
+import org.citrusframework.remote.CitrusRemoteConfiguration;
+import org.citrusframework.remote.model.RemoteResult;
+
+import java.util.List;
+
+/**
+ * Decides which failed tests of a job get retried. A failure is retried when its cause type is one of the
+ * configured cause types or a subtype of them. All failures are retried when no cause types are configured.
+ *
+ * @param maxAttempts maximum number of attempts of a failed test, one disables retries
+ * @param causes failure cause types to retry
+ * @since 4.11
+ */
+public record RetryPolicy(int maxAttempts, List<String> causes) {
+
+    /**
+     * Creates retry policy from the server configuration.
+     * @param configuration
+     * @return
+     */
+    public static RetryPolicy of(CitrusRemoteConfiguration configuration) {
+        return new RetryPolicy(configuration.getRetryAttempts(), configuration.getRetryCauses());
+    }
+
+    /**
+     * Checks if failed tests get retried at all.
+     * @return
+     */
+    public boolean isEnabled() {
+        return maxAttempts > 1;
+    }
+
+    /**
+     * Checks if given result is a failure to retry. Cause types are compared by name and, when both types can be
+     * loaded with given class loader, by type hierarchy.
+     * @param result
+     * @param classLoader
+     * @return
+     */
+    public boolean isRetryable(RemoteResult result, ClassLoader classLoader) {
+        if (!result.isFailed()) {
+            return false;
+        }
+
+        if (causes == null || causes.isEmpty()) {
+            return true;
+        }
+
+        if (result.getCause() == null) {
+            return false;
+        }
+
+        return causes.stream().anyMatch(cause -> cause.equals(result.getCause()) ||
+                isSubtype(result.getCause(), cause, classLoader));
+    }
+
+    private static boolean isSubtype(String type, String superType, ClassLoader classLoader) {
+        try {
+            return Class.forName(superType, false, classLoader)
+                    .isAssignableFrom(Class.forName(type, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -16,15 +16,34 @@
 
 package org.citrusframework.remote.job;
 
+import org.citrusframework.TestClass;
+import org.citrusframework.TestSource;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.main.TestRunConfiguration;
 import org.citrusframework.remote.CitrusRemoteConfiguration;
+import org.citrusframework.remote.concurrent.VirtualThreads;
 import org.citrusframework.remote.controller.RunController;
-import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.deploy.TestJarDeployment;
+import org.citrusframework.remote.history.DurationHistory;
+import org.citrusframework.remote.listener.JobAwareTestListener;
 import org.citrusframework.remote.listener.RemoteTestListener;
+import org.citrusframework.remote.model.RemoteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * @author Christoph Deppisch
@@ -33,20 +52,52 @@ import java.util.function.Supplier;
 public record RunJob (
         CitrusRemoteConfiguration configuration,
         TestRunConfiguration runConfiguration,
-        RemoteTestListener remoteTestListener)
+        RemoteTestListener remoteTestListener,
+        TestJarDeployment deployment,
+        DurationHistory durationHistory)
         implements Supplier<List<RemoteResult>> {
 
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(RunJob.class);
+
+    /**
+     * Constructor running the tests from the server classpath.
+     * @param configuration
+     * @param runConfiguration
+     * @param remoteTestListener
+     */
+    public RunJob(CitrusRemoteConfiguration configuration, TestRunConfiguration runConfiguration,
+                  RemoteTestListener remoteTestListener) {
+        this(configuration, runConfiguration, remoteTestListener, null, null);
+    }
+
     @Override
     public List<RemoteResult> get() {
-        RunController runController = new RunController(configuration);
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        JobAwareTestListener.bind(remoteTestListener);
+        try {
+            if (deployment != null) {
+                thread.setContextClassLoader(deployment.getClassLoader());
+            }
+            run();
+            retryFailedTests();
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            JobAwareTestListener.unbind();
+        }
 
-        runController.setEngine(runConfiguration.getEngine());
-        runController.setIncludes(runConfiguration.getIncludes());
+        return remoteTestListener.toRemoteResults();
+    }
 
-        if (!runConfiguration.getDefaultProperties().isEmpty()) {
-            runController.addDefaultProperties(runConfiguration.getDefaultProperties());
+    private void run() {
+        if (configuration.getParallelWorkers() > 1) {
+            runParallel();
+            return;
         }
 
+        RunController runController = createRunController();
+
         if (runConfiguration.getPackages().isEmpty() &&
                 runConfiguration.getTestSources().isEmpty()) {
             runController.runAll();
@@ -59,10 +110,122 @@ public record RunJob (
         if (!runConfiguration.getTestSources().isEmpty()) {
             runController.runClasses(runConfiguration.getTestSources());
         }
+    }
+
+    /**
+     * Breaks the selected tests into single test classes on a shared queue. Each worker pulls the next test class
+     * from the queue as soon as it is done with the previous one, so slow tests do not hold up the others. All workers
+     * report to the job listener, which merges the results. Test classes with the longest recorded duration are
+     * queued first, so no worker picks up a long running test class when the others are about to finish.
+     */
+    private void runParallel() {
+        List<TestSource> tests = new ArrayList<>(runConfiguration.getTestSources());
+        if (!runConfiguration.getPackages().isEmpty() || tests.isEmpty()) {
+            List<String> packages = runConfiguration.getPackages().isEmpty() ?
+                    Collections.singletonList("") : runConfiguration.getPackages();
+            tests.addAll(createRunController().findTests(packages));
+        }
+
+        if (durationHistory != null) {
+            tests = durationHistory.longestFirst(tests, TestSource::getName, configuration.getDefaultTestDuration());
+        }
+
+        Queue<TestSource> queue = new ConcurrentLinkedQueue<>(tests);
+        int workers = Math.min(configuration.getParallelWorkers(), tests.size());
+        logger.info("Running {} test classes on {} parallel workers", tests.size(), workers);
+
+        ClassLoader testClassLoader = Thread.currentThread().getContextClassLoader();
+        ThreadFactory threadFactory = configuration.isVirtualThreads() && VirtualThreads.isSupported() ?
+                VirtualThreads.threadFactory("citrus-remote-test-worker-") : Thread::new;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workers), threadFactory);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                running.add(executor.submit(() -> runWorker(queue, testClassLoader)));
+            }
+
+            for (Future<?> worker : running) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while running tests in parallel", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to run tests in parallel", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runWorker(Queue<TestSource> queue, ClassLoader testClassLoader) {
+        Thread thread = Thread.currentThread();
+        thread.setContextClassLoader(testClassLoader);
+        JobAwareTestListener.bind(remoteTestListener);
+        try {
+            TestSource test;
+            while ((test = queue.poll()) != null) {
+                try {
+                    createRunController().runClasses(Collections.singletonList(test));
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to run test {}", test.getName(), e);
+                }
+            }
+        } finally {
+            JobAwareTestListener.unbind();
+        }
+    }
+
+    /**
+     * Runs the test classes with failed tests again as long as the retry policy allows. Retries run in the same job
+     * on the same Citrus instance, so the warm Citrus context and its endpoints are reused. The job listener merges
+     * the results of the retried failed tests with their previous attempt and marks tests passing on retry as flaky.
+     * Other tests of these classes run again but keep the result of their earlier attempt.
+     */
+    private void retryFailedTests() {
+        RetryPolicy retryPolicy = RetryPolicy.of(configuration);
+        ClassLoader testClassLoader = Thread.currentThread().getContextClassLoader();
+        for (int attempt = 2; attempt <= retryPolicy.maxAttempts(); attempt++) {
+            List<RemoteResult> failedResults = remoteTestListener.toRemoteResults().stream()
+                    .filter(result -> retryPolicy.isRetryable(result, testClassLoader))
+                    .toList();
+            List<TestSource> failedTests = failedResults.stream()
+                    .map(RemoteResult::getTestClass)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .map(TestClass::fromString)
+                    .map(TestSource.class::cast)
+                    .toList();
+            if (failedTests.isEmpty()) {
+                return;
+            }
+
+            logger.info("Retrying {} test classes with failed tests, attempt {} of {}",
+                    failedTests.size(), attempt, retryPolicy.maxAttempts());
+            remoteTestListener.startAttempt(attempt, failedResults.stream()
+                    .map(RemoteResult::testKey)
+                    .collect(Collectors.toSet()));
+            try {
+                createRunController().runClasses(failedTests);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to retry tests", e);
+            }
+        }
+    }
+
+    private RunController createRunController() {
+        RunController runController = new RunController(configuration);
+
+        runController.setEngine(runConfiguration.getEngine());
+        runController.setIncludes(runConfiguration.getIncludes());
+
+        if (deployment != null) {
+            runController.setTestJar(deployment.getTestJar().toFile());
+        }
+
+        if (!runConfiguration.getDefaultProperties().isEmpty()) {
+            runController.addDefaultProperties(runConfiguration.getDefaultProperties());
+        }
 
-        List<RemoteResult> results = new ArrayList<>();
-        remoteTestListener.getResults()
-                .doWithResults(result -> results.add(RemoteResult.fromTestResult(result)));
-        return results;
+        return runController;
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.listener;
+
+import org.citrusframework.TestCase;
+import org.citrusframework.report.TestListener;
+
+import java.util.Optional;
+
+/**
+ * Test listener registered once on the Citrus instance that forwards all test events to the
+ * {@link RemoteTestListener} of the job running on the current thread. Events outside any job
+ * (e.g. the initial test run on server startup) go to the default listener. Bindings are not inherited, so threads
+ * started during a job never keep reporting to it. Code running a job on threads it owns binds each of them.
+ *
+ * @since 4.11
+ */
+public class JobAwareTestListener implements TestListener {
+
+    /** Listener of the job bound to the current thread */
+    private static final ThreadLocal<RemoteTestListener> JOB_LISTENER = new ThreadLocal<>();
+
+    /** Receives all events not bound to a job */
+    private final RemoteTestListener defaultListener;
+
+    /**
+     * Constructor using default listener.
+     * @param defaultListener
+     */
+    public JobAwareTestListener(RemoteTestListener defaultListener) {
+        this.defaultListener = defaultListener;
+    }
+
+    /**
+     * Binds given job listener to the current thread.
+     * @param listener
+     */
+    public static void bind(RemoteTestListener listener) {
+        JOB_LISTENER.set(listener);
+    }
+
+    /**
+     * Removes job listener binding from the current thread.
+     */
+    public static void unbind() {
+        JOB_LISTENER.remove();
+    }
+
+    private RemoteTestListener current() {
+        return Optional.ofNullable(JOB_LISTENER.get()).orElse(defaultListener);
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+        current().onTestStart(test);
+    }
+
+    @Override
+    public void onTestExecutionEnd(TestCase test) {
+        current().onTestExecutionEnd(test);
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+        current().onTestSuccess(test);
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+        current().onTestFailure(test, cause);
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+        current().onTestSkipped(test);
+    }
+
+    /**
+     * Gets the default listener.
+     * @return
+     */
+    public RemoteTestListener getDefaultListener() {
+        return defaultListener;
+    }
+}
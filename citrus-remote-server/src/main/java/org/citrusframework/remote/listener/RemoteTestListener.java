@@ -19,15 +19,23 @@ package org.citrusframework.remote.listener;
 import org.citrusframework.TestCase;
 import org.citrusframework.TestResult;
 import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.model.RemoteResultDelta;
+import org.citrusframework.remote.store.ResultStore;
 import org.citrusframework.report.OutputStreamReporter;
 import org.citrusframework.report.TestListener;
 import org.citrusframework.report.TestResults;
 
 import java.io.StringWriter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 /**
  * @author Christoph Deppisch
@@ -35,19 +43,68 @@ import java.util.Map;
  */
 public class RemoteTestListener implements TestListener {
 
-    /** Latest test results */
-    private TestResults results = new TestResults();
+    /** Remote results in the order they have been reported, the list index + 1 is the result sequence */
+    private final List<RemoteResult> remoteResults = new ArrayList<>();
 
-    private final Map<ClassAndName, Long> startTimes = new HashMap<>();
+    /** Index of the latest result of each test in the remote results, retries replace the index of the previous attempt */
+    private final List<Integer> latest = new ArrayList<>();
+
+    /** Position of each test in the latest results */
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /** Sequence of the last result appended to the result store and published to the subscribers */
+    private long published;
+
+    /** Serializes publishing so results are stored and published in sequence order */
+    private final Object publishLock = new Object();
+
+    /** Attempt of the tests currently running, greater than one while failed tests are retried */
+    private volatile int attempt = 1;
+
+    /** Keys of the failed tests retried in the current attempt */
+    private volatile Set<String> retriedTests = Collections.emptySet();
+
+    /** Concurrent map as tests of a job may run on several worker threads */
+    private final Map<ClassAndName, Long> startTimes = new ConcurrentHashMap<>();
+
+    /** Subscribers notified with sequence and remote result on each new test result */
+    private final List<BiConsumer<Long, RemoteResult>> subscribers = new CopyOnWriteArrayList<>();
+
+    /** Subscribers notified once the job of this listener has completed */
+    private final List<Runnable> completionSubscribers = new CopyOnWriteArrayList<>();
+
+    /** Set once the job of this listener has completed */
+    private volatile boolean completed;
+
+    /** Stores each result of the job, null when results are kept in memory only */
+    private final ResultStore resultStore;
+    private final String jobId;
+
+    /**
+     * Default constructor keeping the results in memory only.
+     */
+    public RemoteTestListener() {
+        this(null, null);
+    }
 
     /**
-     * Generate a test report from the current {@link #results}.
+     * Constructor appending each result to the given result store.
+     * @param resultStore
+     * @param jobId
+     */
+    public RemoteTestListener(ResultStore resultStore, String jobId) {
+        this.resultStore = resultStore;
+        this.jobId = jobId;
+    }
+
+    /**
+     * Generate a test report from the current results.
      * @return
      */
     public String generateTestReport() {
         StringWriter reportWriter = new StringWriter();
         OutputStreamReporter reporter = new OutputStreamReporter(reportWriter);
-        reporter.generate(results);
+        reporter.generate(getResults());
         return reportWriter.toString();
     }
 
@@ -56,7 +113,23 @@ public class RemoteTestListener implements TestListener {
      * @return
      */
     public TestResults getResults() {
-        return results;
+        TestResults testResults = new TestResults();
+        toRemoteResults().stream()
+                .map(RemoteResult::toTestResult)
+                .forEach(testResults::addResult);
+        return testResults;
+    }
+
+    /**
+     * Starts given attempt of running the tests. Results of the given retried tests reported from now on are
+     * retries of their earlier results. Results of other tests that run again, e.g. because they share the test
+     * class with a retried test, are ignored so they keep the result of their earlier attempt.
+     * @param attempt
+     * @param retriedTests keys of the retried tests
+     */
+    public void startAttempt(int attempt, Set<String> retriedTests) {
+        this.retriedTests = Set.copyOf(retriedTests);
+        this.attempt = attempt;
     }
 
     @Override
@@ -73,11 +146,10 @@ public class RemoteTestListener implements TestListener {
     public void onTestSuccess(TestCase test) {
         Duration consumed = Duration.ofMillis(
                 System.currentTimeMillis() - startTimes.get(ClassAndName.of(test)));
-        results
-                .addResult(TestResult.success(
-                                test.getName(),
-                                test.getTestClass().getCanonicalName(),
-                                test.getVariableDefinitions())
+        addResult(TestResult.success(
+                        test.getName(),
+                        test.getTestClass().getCanonicalName(),
+                        test.getVariableDefinitions())
                 .withDuration(consumed));
     }
 
@@ -85,12 +157,11 @@ public class RemoteTestListener implements TestListener {
     public void onTestFailure(TestCase test, Throwable cause) {
         Duration consumed = Duration.ofMillis(
                 System.currentTimeMillis() - startTimes.get(ClassAndName.of(test)));
-        results
-                .addResult(TestResult.failed(
-                                test.getName(),
-                                test.getTestClass().getCanonicalName(),
-                                cause,
-                                test.getVariableDefinitions())
+        addResult(TestResult.failed(
+                        test.getName(),
+                        test.getTestClass().getCanonicalName(),
+                        cause,
+                        test.getVariableDefinitions())
                 .withDuration(consumed));
     }
 
@@ -98,23 +169,192 @@ public class RemoteTestListener implements TestListener {
     public void onTestSkipped(TestCase test) {
         Duration consumed = Duration.ofMillis(
                 System.currentTimeMillis() - startTimes.get(ClassAndName.of(test)));
-        results
-                .addResult(TestResult.skipped(
+        addResult(TestResult.skipped(
                         test.getName(),
                         test.getTestClass().getCanonicalName(),
                         test.getVariableDefinitions())
                 .withDuration(consumed));
     }
 
+    /**
+     * Adds the test result and publishes its remote representation to all subscribers. The result store and the
+     * subscribers are called outside the results lock, so readers of the results never wait for them.
+     * @param result
+     */
+    private void addResult(TestResult result) {
+        RemoteResult remoteResult = RemoteResult.fromTestResult(result);
+        String testKey = RemoteResult.testKey(remoteResult);
+        synchronized (remoteResults) {
+            Integer position = attempt > 1 ? positions.get(testKey) : null;
+            if (position != null && !retriedTests.contains(testKey)) {
+                return;
+            }
+
+            if (position != null) {
+                remoteResult = RemoteResult.retry(remoteResults.get(latest.get(position)), remoteResult);
+                latest.set(position, remoteResults.size());
+            } else {
+                addLatest(remoteResult);
+            }
+            remoteResults.add(remoteResult);
+        }
+
+        publish();
+    }
+
+    /**
+     * Appends all results not published yet to the result store and notifies the subscribers in sequence order.
+     * Only one thread publishes at a time, results added concurrently are published by the thread already publishing
+     * or by the next one.
+     */
+    private void publish() {
+        synchronized (publishLock) {
+            while (true) {
+                long sequence;
+                RemoteResult remoteResult;
+                List<BiConsumer<Long, RemoteResult>> notified;
+                synchronized (remoteResults) {
+                    if (published >= remoteResults.size()) {
+                        return;
+                    }
+
+                    sequence = ++published;
+                    remoteResult = remoteResults.get((int) sequence - 1);
+                    notified = List.copyOf(subscribers);
+                }
+
+                if (resultStore != null) {
+                    resultStore.append(jobId, remoteResult);
+                }
+                notified.forEach(subscriber -> subscriber.accept(sequence, remoteResult));
+            }
+        }
+    }
+
+    private void addLatest(RemoteResult remoteResult) {
+        positions.put(RemoteResult.testKey(remoteResult), latest.size());
+        latest.add(remoteResults.size());
+    }
+
+    /**
+     * Restores results loaded from the result store, e.g. after a server restart.
+     * @param storedResults
+     */
+    public void restore(List<RemoteResult> storedResults) {
+        synchronized (remoteResults) {
+            storedResults.forEach(remoteResult -> {
+                Integer position = remoteResult.getAttempts() > 1 ?
+                        positions.get(RemoteResult.testKey(remoteResult)) : null;
+                if (position != null) {
+                    latest.set(position, remoteResults.size());
+                } else {
+                    addLatest(remoteResult);
+                }
+                remoteResults.add(remoteResult);
+            });
+            published = remoteResults.size();
+        }
+    }
+
+    /**
+     * Subscribe to remote results. All results reported after the given sequence are replayed to the subscriber
+     * before it receives any new result so no result gets lost or duplicated in between.
+     * @param since sequence of the last result already known to the subscriber
+     * @param subscriber
+     */
+    public void subscribe(long since, BiConsumer<Long, RemoteResult> subscriber) {
+        synchronized (remoteResults) {
+            for (int i = (int) Math.max(0, since); i < published; i++) {
+                subscriber.accept(i + 1L, remoteResults.get(i));
+            }
+            subscribers.add(subscriber);
+        }
+    }
+
+    /**
+     * Removes given subscriber.
+     * @param subscriber
+     */
+    public void unsubscribe(BiConsumer<Long, RemoteResult> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Marks the job of this listener as completed and notifies all completion subscribers.
+     */
+    public void complete() {
+        completed = true;
+        completionSubscribers.forEach(Runnable::run);
+    }
+
+    /**
+     * Subscribe to the completion of the job of this listener. The subscriber is notified right away when the job
+     * has already completed. It may be notified twice when the job completes concurrently, so it must be idempotent.
+     * @param subscriber
+     */
+    public void subscribeCompletion(Runnable subscriber) {
+        completionSubscribers.add(subscriber);
+        if (completed) {
+            subscriber.run();
+        }
+    }
+
+    /**
+     * Removes given completion subscriber.
+     * @param subscriber
+     */
+    public void unsubscribeCompletion(Runnable subscriber) {
+        completionSubscribers.remove(subscriber);
+    }
+
+    /**
+     * Gets all remote results reported after given sequence cursor. When the cursor is ahead of the
+     * known results (e.g. because the listener has been reset in the meantime) no results are returned
+     * and the delta carries the current sequence as the next cursor.
+     * @param since
+     * @return
+     */
+    public RemoteResultDelta resultsSince(long since) {
+        synchronized (remoteResults) {
+            int start = (int) Math.min(published, Math.max(0, since));
+            return new RemoteResultDelta(
+                    List.copyOf(remoteResults.subList(start, (int) published)),
+                    published);
+        }
+    }
+
+    /**
+     * Gets the sequence of the latest reported result.
+     * @return
+     */
+    public long getSequence() {
+        synchronized (remoteResults) {
+            return published;
+        }
+    }
+
+    /**
+     * Gets the latest result of each test.
+     * @return
+     */
     public List<RemoteResult> toRemoteResults() {
-        return getResults().asList().stream()
-                .map(RemoteResult::fromTestResult)
-                .toList();
+        synchronized (remoteResults) {
+            return latest.stream()
+                    .map(remoteResults::get)
+                    .toList();
+        }
     }
 
     public void reset() {
-        results = new TestResults();
         startTimes.clear();
+        attempt = 1;
+        completed = false;
+        synchronized (remoteResults) {
+            remoteResults.clear();
+            latest.clear();
+            positions.clear();
+            published = 0;
+        }
     }
 
     private record ClassAndName(Class<?> clazz, String name) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Run class path made of jars in the server side jar cache, referenced by the SHA-256 hash of their content.
+ *
+ * @since 4.11
+ */
+public class RemoteClasspath {
+
+    /** Hash of the thin jar holding the test classes */
+    private String testJar;
+
+    /** Hashes of the dependency jars */
+    private List<String> dependencies = new ArrayList<>();
+
+    /**
+     * Gets the testJar.
+     *
+     * @return
+     */
+    public String getTestJar() {
+        return testJar;
+    }
+
+    /**
+     * Sets the testJar.
+     *
+     * @param testJar
+     */
+    public void setTestJar(String testJar) {
+        this.testJar = testJar;
+    }
+
+    /**
+     * Gets the dependencies.
+     *
+     * @return
+     */
+    public List<String> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Sets the dependencies.
+     *
+     * @param dependencies
+     */
+    public void setDependencies(List<String> dependencies) {
+        this.dependencies = dependencies;
+    }
+}
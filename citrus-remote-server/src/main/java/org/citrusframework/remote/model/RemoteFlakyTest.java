@@ -0,0 +1,145 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+/**
+ * Flake rate of a test across all jobs run on the remote server.
+ *
+ * @since 4.11
+ */
+public class RemoteFlakyTest {
+
+    private String testClass;
+    private String testName;
+
+    /** Number of jobs the test has been run in */
+    private long runs;
+
+    /** Number of jobs the test has both failed and passed in */
+    private long flaky;
+
+    /** Share of flaky runs between 0 and 1 */
+    private double flakeRate;
+
+    /**
+     * Creates flaky test information from the test key and counts.
+     * @param testKey
+     * @param runs
+     * @param flaky
+     * @return
+     */
+    public static RemoteFlakyTest of(String testKey, long runs, long flaky) {
+        RemoteFlakyTest flakyTest = new RemoteFlakyTest();
+        int separator = testKey.indexOf('#');
+        flakyTest.setTestClass(separator < 0 ? testKey : testKey.substring(0, separator));
+        flakyTest.setTestName(separator < 0 ? null : testKey.substring(separator + 1));
+        flakyTest.setRuns(runs);
+        flakyTest.setFlaky(flaky);
+        flakyTest.setFlakeRate(runs > 0 ? (double) flaky / runs : 0.0);
+        return flakyTest;
+    }
+
+    /**
+     * Gets the testClass.
+     *
+     * @return
+     */
+    public String getTestClass() {
+        return testClass;
+    }
+
+    /**
+     * Sets the testClass.
+     *
+     * @param testClass
+     */
+    public void setTestClass(String testClass) {
+        this.testClass = testClass;
+    }
+
+    /**
+     * Gets the testName.
+     *
+     * @return
+     */
+    public String getTestName() {
+        return testName;
+    }
+
+    /**
+     * Sets the testName.
+     *
+     * @param testName
+     */
+    public void setTestName(String testName) {
+        this.testName = testName;
+    }
+
+    /**
+     * Gets the runs.
+     *
+     * @return
+     */
+    public long getRuns() {
+        return runs;
+    }
+
+    /**
+     * Sets the runs.
+     *
+     * @param runs
+     */
+    public void setRuns(long runs) {
+        this.runs = runs;
+    }
+
+    /**
+     * Gets the flaky.
+     *
+     * @return
+     */
+    public long getFlaky() {
+        return flaky;
+    }
+
+    /**
+     * Sets the flaky.
+     *
+     * @param flaky
+     */
+    public void setFlaky(long flaky) {
+        this.flaky = flaky;
+    }
+
+    /**
+     * Gets the flakeRate.
+     *
+     * @return
+     */
+    public double getFlakeRate() {
+        return flakeRate;
+    }
+
+    /**
+     * Sets the flakeRate.
+     *
+     * @param flakeRate
+     */
+    public void setFlakeRate(double flakeRate) {
+        this.flakeRate = flakeRate;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+import java.util.List;
+
+/**
+ * Test result of a completed job kept in the run history of the remote server.
+ *
+ * @since 4.11
+ */
+public class RemoteHistoryEntry {
+
+    /** Result status values */
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILED = "FAILED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String FLAKY = "FLAKY";
+    public static final List<String> STATUS_VALUES = List.of(SUCCESS, FAILED, SKIPPED, FLAKY);
+
+    /** Job the test has been run in */
+    private String jobId;
+
+    /** Time the job has been recorded in milliseconds since epoch */
+    private long finished;
+
+    private String testClass;
+    private String testName;
+
+    /** One of the result status values, tests passing on retry are flaky */
+    private String status;
+
+    private Long durationMillis;
+
+    /** Number of times the test has been run in the job */
+    private int attempts = 1;
+
+    /** Failure cause type and message of failed tests */
+    private String cause;
+    private String errorMessage;
+
+    /**
+     * Creates history entry for given result of a job.
+     * @param jobId
+     * @param finished
+     * @param result
+     * @return
+     */
+    public static RemoteHistoryEntry of(String jobId, long finished, RemoteResult result) {
+        RemoteHistoryEntry entry = new RemoteHistoryEntry();
+        entry.setJobId(jobId);
+        entry.setFinished(finished);
+        entry.setTestClass(result.getTestClass());
+        entry.setTestName(result.getTestName());
+        entry.setStatus(result.isSkipped() ? SKIPPED : result.isFailed() ? FAILED : result.isFlaky() ? FLAKY : SUCCESS);
+        entry.setDurationMillis(result.getDurationMillis());
+        entry.setAttempts(result.getAttempts());
+        entry.setCause(result.getCause());
+        entry.setErrorMessage(result.getErrorMessage());
+        return entry;
+    }
+
+    /**
+     * Gets the jobId.
+     *
+     * @return
+     */
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Sets the jobId.
+     *
+     * @param jobId
+     */
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    /**
+     * Gets the finished.
+     *
+     * @return
+     */
+    public long getFinished() {
+        return finished;
+    }
+
+    /**
+     * Sets the finished.
+     *
+     * @param finished
+     */
+    public void setFinished(long finished) {
+        this.finished = finished;
+    }
+
+    /**
+     * Gets the testClass.
+     *
+     * @return
+     */
+    public String getTestClass() {
+        return testClass;
+    }
+
+    /**
+     * Sets the testClass.
+     *
+     * @param testClass
+     */
+    public void setTestClass(String testClass) {
+        this.testClass = testClass;
+    }
+
+    /**
+     * Gets the testName.
+     *
+     * @return
+     */
+    public String getTestName() {
+        return testName;
+    }
+
+    /**
+     * Sets the testName.
+     *
+     * @param testName
+     */
+    public void setTestName(String testName) {
+        this.testName = testName;
+    }
+
+    /**
+     * Gets the status.
+     *
+     * @return
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets the status.
+     *
+     * @param status
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Gets the durationMillis.
+     *
+     * @return
+     */
+    public Long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Sets the durationMillis.
+     *
+     * @param durationMillis
+     */
+    public void setDurationMillis(Long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Gets the attempts.
+     *
+     * @return
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Sets the attempts.
+     *
+     * @param attempts
+     */
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Gets the cause.
+     *
+     * @return
+     */
+    public String getCause() {
+        return cause;
+    }
+
+    /**
+     * Sets the cause.
+     *
+     * @param cause
+     */
+    public void setCause(String cause) {
+        this.cause = cause;
+    }
+
+    /**
+     * Gets the errorMessage.
+     *
+     * @return
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Sets the errorMessage.
+     *
+     * @param errorMessage
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page of run history entries matching a history query, newest first.
+ *
+ * @since 4.11
+ */
+public class RemoteHistoryPage {
+
+    /** Number of entries matching the query */
+    private long total;
+
+    /** Position of the first entry of this page and maximum number of entries per page */
+    private int offset;
+    private int limit;
+
+    private List<RemoteHistoryEntry> entries = new ArrayList<>();
+
+    /**
+     * Gets the total.
+     *
+     * @return
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Sets the total.
+     *
+     * @param total
+     */
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Gets the offset.
+     *
+     * @return
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Sets the offset.
+     *
+     * @param offset
+     */
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    /**
+     * Gets the limit.
+     *
+     * @return
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets the limit.
+     *
+     * @param limit
+     */
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the entries.
+     *
+     * @return
+     */
+    public List<RemoteHistoryEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Sets the entries.
+     *
+     * @param entries
+     */
+    public void setEntries(List<RemoteHistoryEntry> entries) {
+        this.entries = entries;
+    }
+}
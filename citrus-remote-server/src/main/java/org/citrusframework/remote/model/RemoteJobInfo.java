@@ -0,0 +1,267 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+/**
+ * Status information of a test run job on the remote server.
+ *
+ * @since 4.11
+ */
+public class RemoteJobInfo {
+
+    /** Unique job id */
+    private String id;
+
+    /** Current job state */
+    private String state;
+
+    /** Timestamps in milliseconds since epoch */
+    private long created;
+    private Long started;
+    private Long finished;
+
+    /** Result counts */
+    private long total;
+    private long success;
+    private long failed;
+    private long skipped;
+
+    /** Number of tests passing on retry */
+    private long flaky;
+
+    /** Error message in case the job itself failed */
+    private String errorMessage;
+
+    /** Warmup time credited as saved startup time, one-off so only the first warm job reports a non-zero value */
+    private Long savedStartupMillis;
+
+    /**
+     * Gets the id.
+     *
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id.
+     *
+     * @param id
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the state.
+     *
+     * @return
+     */
+    public String getState() {
+        return state;
+    }
+
+    /**
+     * Sets the state.
+     *
+     * @param state
+     */
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    /**
+     * Gets the created.
+     *
+     * @return
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Sets the created.
+     *
+     * @param created
+     */
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    /**
+     * Gets the started.
+     *
+     * @return
+     */
+    public Long getStarted() {
+        return started;
+    }
+
+    /**
+     * Sets the started.
+     *
+     * @param started
+     */
+    public void setStarted(Long started) {
+        this.started = started;
+    }
+
+    /**
+     * Gets the finished.
+     *
+     * @return
+     */
+    public Long getFinished() {
+        return finished;
+    }
+
+    /**
+     * Sets the finished.
+     *
+     * @param finished
+     */
+    public void setFinished(Long finished) {
+        this.finished = finished;
+    }
+
+    /**
+     * Gets the total.
+     *
+     * @return
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Sets the total.
+     *
+     * @param total
+     */
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Gets the success.
+     *
+     * @return
+     */
+    public long getSuccess() {
+        return success;
+    }
+
+    /**
+     * Sets the success.
+     *
+     * @param success
+     */
+    public void setSuccess(long success) {
+        this.success = success;
+    }
+
+    /**
+     * Gets the failed.
+     *
+     * @return
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Sets the failed.
+     *
+     * @param failed
+     */
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * Gets the skipped.
+     *
+     * @return
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Sets the skipped.
+     *
+     * @param skipped
+     */
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    /**
+     * Gets the flaky.
+     *
+     * @return
+     */
+    public long getFlaky() {
+        return flaky;
+    }
+
+    /**
+     * Sets the flaky.
+     *
+     * @param flaky
+     */
+    public void setFlaky(long flaky) {
+        this.flaky = flaky;
+    }
+
+    /**
+     * Gets the errorMessage.
+     *
+     * @return
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Sets the errorMessage.
+     *
+     * @param errorMessage
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Gets the savedStartupMillis.
+     *
+     * @return
+     */
+    public Long getSavedStartupMillis() {
+        return savedStartupMillis;
+    }
+
+    /**
+     * Sets the savedStartupMillis.
+     *
+     * @param savedStartupMillis
+     */
+    public void setSavedStartupMillis(Long savedStartupMillis) {
+        this.savedStartupMillis = savedStartupMillis;
+    }
+}
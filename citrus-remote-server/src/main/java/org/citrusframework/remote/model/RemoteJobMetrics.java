@@ -0,0 +1,189 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+/**
+ * Gauges and counters of the job executor on the remote server.
+ *
+ * @since 4.11
+ */
+public class RemoteJobMetrics {
+
+    /** Number of jobs currently running */
+    private int activeJobs;
+
+    /** Number of jobs waiting for execution */
+    private int queuedJobs;
+
+    /** Configured limits */
+    private int maxConcurrentJobs;
+    private int queueCapacity;
+
+    /** Counters since server start */
+    private long completedJobs;
+    private long rejectedJobs;
+
+    /** Whether jobs run on virtual threads */
+    private boolean virtualThreads;
+
+    /** Number of virtual threads reported as pinned to their carrier thread */
+    private long pinnedThreadEvents;
+
+    /**
+     * Gets the activeJobs.
+     *
+     * @return
+     */
+    public int getActiveJobs() {
+        return activeJobs;
+    }
+
+    /**
+     * Sets the activeJobs.
+     *
+     * @param activeJobs
+     */
+    public void setActiveJobs(int activeJobs) {
+        this.activeJobs = activeJobs;
+    }
+
+    /**
+     * Gets the queuedJobs.
+     *
+     * @return
+     */
+    public int getQueuedJobs() {
+        return queuedJobs;
+    }
+
+    /**
+     * Sets the queuedJobs.
+     *
+     * @param queuedJobs
+     */
+    public void setQueuedJobs(int queuedJobs) {
+        this.queuedJobs = queuedJobs;
+    }
+
+    /**
+     * Gets the maxConcurrentJobs.
+     *
+     * @return
+     */
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    /**
+     * Sets the maxConcurrentJobs.
+     *
+     * @param maxConcurrentJobs
+     */
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    /**
+     * Gets the queueCapacity.
+     *
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the queueCapacity.
+     *
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the completedJobs.
+     *
+     * @return
+     */
+    public long getCompletedJobs() {
+        return completedJobs;
+    }
+
+    /**
+     * Sets the completedJobs.
+     *
+     * @param completedJobs
+     */
+    public void setCompletedJobs(long completedJobs) {
+        this.completedJobs = completedJobs;
+    }
+
+    /**
+     * Gets the rejectedJobs.
+     *
+     * @return
+     */
+    public long getRejectedJobs() {
+        return rejectedJobs;
+    }
+
+    /**
+     * Sets the rejectedJobs.
+     *
+     * @param rejectedJobs
+     */
+    public void setRejectedJobs(long rejectedJobs) {
+        this.rejectedJobs = rejectedJobs;
+    }
+
+    /**
+     * Gets the virtualThreads.
+     *
+     * @return
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets the virtualThreads.
+     *
+     * @param virtualThreads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Gets the pinnedThreadEvents.
+     *
+     * @return
+     */
+    public long getPinnedThreadEvents() {
+        return pinnedThreadEvents;
+    }
+
+    /**
+     * Sets the pinnedThreadEvents.
+     *
+     * @param pinnedThreadEvents
+     */
+    public void setPinnedThreadEvents(long pinnedThreadEvents) {
+        this.pinnedThreadEvents = pinnedThreadEvents;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+/**
+ * Content addressed layer of a test assembly. Dependency layers hold dependency jars as nested jar entries,
+ * the tests layer is itself the jar holding the test classes.
+ *
+ * @since 4.11
+ */
+public class RemoteLayer {
+
+    /** Third party dependency jars, rarely changing */
+    public static final String DEPENDENCIES = "dependencies";
+
+    /** Dependency jars of modules in the same project, changing with project builds */
+    public static final String PROJECT_DEPENDENCIES = "project-dependencies";
+
+    /** Test classes and resources, changing with every test edit */
+    public static final String TESTS = "tests";
+
+    /** Layer name */
+    private String name;
+
+    /** SHA-256 hash of the layer archive */
+    private String sha256;
+
+    /** Size of the layer archive in bytes */
+    private long size;
+
+    /**
+     * Default constructor.
+     */
+    public RemoteLayer() {
+        super();
+    }
+
+    /**
+     * Constructor using fields.
+     * @param name
+     * @param sha256
+     * @param size
+     */
+    public RemoteLayer(String name, String sha256, long size) {
+        this.name = name;
+        this.sha256 = sha256;
+        this.size = size;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name.
+     *
+     * @param name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the sha256.
+     *
+     * @return
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    /**
+     * Sets the sha256.
+     *
+     * @param sha256
+     */
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the size.
+     *
+     * @param size
+     */
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifest listing the layers that make up a test assembly.
+ *
+ * @since 4.11
+ */
+public class RemoteLayerManifest {
+
+    /** Layers of the assembly */
+    private List<RemoteLayer> layers = new ArrayList<>();
+
+    /**
+     * Gets the layers.
+     *
+     * @return
+     */
+    public List<RemoteLayer> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Sets the layers.
+     *
+     * @param layers
+     */
+    public void setLayers(List<RemoteLayer> layers) {
+        this.layers = layers;
+    }
+}
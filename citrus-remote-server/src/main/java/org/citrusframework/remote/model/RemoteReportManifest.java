@@ -0,0 +1,50 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Manifest of the report files a client already holds. Maps the report file path relative to the reports
+ * directory, e.g. junitreports/TEST-MyIT.xml, to the SHA-256 hash of the file content.
+ *
+ * @since 4.11
+ */
+public class RemoteReportManifest {
+
+    /** Report file hashes by relative path */
+    private Map<String, String> files = new LinkedHashMap<>();
+
+    /**
+     * Gets the files.
+     *
+     * @return
+     */
+    public Map<String, String> getFiles() {
+        return files;
+    }
+
+    /**
+     * Sets the files.
+     *
+     * @param files
+     */
+    public void setFiles(Map<String, String> files) {
+        this.files = files;
+    }
+}
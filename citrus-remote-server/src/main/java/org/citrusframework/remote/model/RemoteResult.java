@@ -22,6 +22,11 @@ import org.citrusframework.exceptions.CitrusRuntimeException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -52,6 +57,12 @@ public class RemoteResult {
     private boolean failed;
     private boolean skipped;
 
+    /** Number of times the test has been run in the job, more than one when failed tests have been retried */
+    private int attempts = 1;
+
+    /** Test has both failed and passed in the same job */
+    private boolean flaky;
+
     /**
      * Convert traditional test result to remote result.
      * @param testResult
@@ -82,6 +93,78 @@ public class RemoteResult {
         return remoteResult;
     }
 
+    /**
+     * Combines the result of a previous attempt with the result of the latest attempt of the same test.
+     * A test that has passed in any attempt counts as passed and is marked flaky when another attempt has failed.
+     * @param previous
+     * @param latest
+     * @return
+     */
+    public static RemoteResult retry(RemoteResult previous, RemoteResult latest) {
+        RemoteResult result;
+        if (previous.isSuccess()) {
+            result = previous.copy();
+            result.setFlaky(previous.isFlaky() || latest.isFailed());
+        } else if (latest.isSuccess()) {
+            result = latest.copy();
+            result.setFlaky(previous.isFailed() || previous.isFlaky());
+        } else {
+            result = latest.copy();
+            result.setFlaky(previous.isFlaky());
+        }
+
+        result.setAttempts(previous.getAttempts() + 1);
+        return result;
+    }
+
+    /**
+     * Reduces given results to the latest result of each test, e.g. when results of retried tests have been
+     * reported several times. A retry result replaces the earlier result of the same test, results of the first
+     * attempt are all kept as tests may legitimately report the same name several times. Keeps the order in which
+     * the tests have been reported first.
+     * @param results
+     * @return
+     */
+    public static List<RemoteResult> latestAttempts(Collection<RemoteResult> results) {
+        List<RemoteResult> latest = new ArrayList<>();
+        Map<String, Integer> positions = new HashMap<>();
+        for (RemoteResult result : results) {
+            Integer position = result.getAttempts() > 1 ? positions.get(testKey(result)) : null;
+            if (position != null) {
+                latest.set(position, result);
+            } else {
+                positions.put(testKey(result), latest.size());
+                latest.add(result);
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Gets the key identifying the test of given result within a job.
+     * @param result
+     * @return
+     */
+    public static String testKey(RemoteResult result) {
+        return result.getTestClass() + "#" + result.getTestName();
+    }
+
+    private RemoteResult copy() {
+        RemoteResult copy = new RemoteResult();
+        copy.setTestName(testName);
+        copy.setTestClass(testClass);
+        copy.setDurationMillis(durationMillis);
+        copy.setCause(cause);
+        copy.setErrorMessage(errorMessage);
+        copy.setFailureStack(failureStack);
+        copy.setSuccess(success);
+        copy.setFailed(failed);
+        copy.setSkipped(skipped);
+        copy.setAttempts(attempts);
+        copy.setFlaky(flaky);
+        return copy;
+    }
+
     /**
      * Convert remote result to traditional result.
      * @param remoteResult
@@ -105,7 +188,9 @@ public class RemoteResult {
             throw new CitrusRuntimeException(
                     "Unexpected test result state " + remoteResult.getTestName());
         }
-        return result.withDuration(Duration.ofMillis(remoteResult.getDurationMillis()));
+        return result.withDuration(Optional.ofNullable(remoteResult.getDurationMillis())
+                .map(Duration::ofMillis)
+                .orElse(Duration.ZERO));
     }
 
     /**
@@ -149,7 +234,7 @@ public class RemoteResult {
      *
      * @return
      */
-    public long getDurationMillis() {
+    public Long getDurationMillis() {
         return durationMillis;
     }
 
@@ -158,7 +243,7 @@ public class RemoteResult {
      *
      * @param durationMillis
      */
-    public void setDurationMillis(long durationMillis) {
+    public void setDurationMillis(Long durationMillis) {
         this.durationMillis = durationMillis;
     }
 
@@ -269,4 +354,40 @@ public class RemoteResult {
     public void setSkipped(boolean skipped) {
         this.skipped = skipped;
     }
+
+    /**
+     * Gets the attempts.
+     *
+     * @return
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Sets the attempts.
+     *
+     * @param attempts
+     */
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Gets the flaky.
+     *
+     * @return
+     */
+    public boolean isFlaky() {
+        return flaky;
+    }
+
+    /**
+     * Sets the flaky.
+     *
+     * @param flaky
+     */
+    public void setFlaky(boolean flaky) {
+        this.flaky = flaky;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental view on remote results. Holds all results reported after a given sequence cursor
+ * together with the cursor to use for the next request.
+ *
+ * @since 4.11
+ */
+public class RemoteResultDelta {
+
+    /** Results reported after the requested cursor */
+    private List<RemoteResult> results = new ArrayList<>();
+
+    /** Cursor to use for the next request */
+    private long next;
+
+    /** Marks that the test run has finished and no more results follow */
+    private boolean completed;
+
+    /**
+     * Default constructor.
+     */
+    public RemoteResultDelta() {
+        super();
+    }
+
+    /**
+     * Constructor using fields.
+     * @param results
+     * @param next
+     */
+    public RemoteResultDelta(List<RemoteResult> results, long next) {
+        this.results = results;
+        this.next = next;
+    }
+
+    /**
+     * Gets the results.
+     *
+     * @return
+     */
+    public List<RemoteResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Sets the results.
+     *
+     * @param results
+     */
+    public void setResults(List<RemoteResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Gets the next.
+     *
+     * @return
+     */
+    public long getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next.
+     *
+     * @param next
+     */
+    public void setNext(long next) {
+        this.next = next;
+    }
+
+    /**
+     * Gets the completed.
+     *
+     * @return
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Sets the completed.
+     *
+     * @param completed
+     */
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+}
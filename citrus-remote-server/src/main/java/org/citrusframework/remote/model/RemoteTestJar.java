@@ -0,0 +1,88 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+/**
+ * Information about the test jar deployed into the remote server.
+ *
+ * @since 4.11
+ */
+public class RemoteTestJar {
+
+    /** Deployment id */
+    private String id;
+
+    /** Size of the jar in bytes */
+    private long size;
+
+    /** Deployment time in milliseconds since epoch */
+    private long deployed;
+
+    /**
+     * Gets the id.
+     *
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id.
+     *
+     * @param id
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the size.
+     *
+     * @param size
+     */
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the deployed.
+     *
+     * @return
+     */
+    public long getDeployed() {
+        return deployed;
+    }
+
+    /**
+     * Sets the deployed.
+     *
+     * @param deployed
+     */
+    public void setDeployed(long deployed) {
+        this.deployed = deployed;
+    }
+}
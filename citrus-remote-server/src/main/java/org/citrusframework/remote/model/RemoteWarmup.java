@@ -0,0 +1,153 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+/**
+ * State of the warm Citrus context and the startup time it has saved test runs so far. The saved time is a one-off
+ * credit of the warmup time to the first test run on the warm context. It is not measured per run, as later runs
+ * reuse the same Citrus instance with or without warmup.
+ *
+ * @since 4.11
+ */
+public class RemoteWarmup {
+
+    /** Whether the Citrus context has been initialized ahead of time */
+    private boolean warm;
+
+    /** Time spent initializing the Citrus context and its endpoints */
+    private long warmupMillis;
+
+    /** Number of endpoints initialized */
+    private int endpoints;
+
+    /** Number of test runs that started with the warm context */
+    private long warmRuns;
+
+    /** Startup time saved by all warm test runs, equals the warmup time once it has been credited */
+    private long savedMillis;
+
+    /** Whether the warmup time has been credited to the first warm test run */
+    private boolean warmupCredited;
+
+    /**
+     * Gets the warm.
+     *
+     * @return
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Sets the warm.
+     *
+     * @param warm
+     */
+    public void setWarm(boolean warm) {
+        this.warm = warm;
+    }
+
+    /**
+     * Gets the warmupMillis.
+     *
+     * @return
+     */
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    /**
+     * Sets the warmupMillis.
+     *
+     * @param warmupMillis
+     */
+    public void setWarmupMillis(long warmupMillis) {
+        this.warmupMillis = warmupMillis;
+    }
+
+    /**
+     * Gets the endpoints.
+     *
+     * @return
+     */
+    public int getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Sets the endpoints.
+     *
+     * @param endpoints
+     */
+    public void setEndpoints(int endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Gets the warmRuns.
+     *
+     * @return
+     */
+    public long getWarmRuns() {
+        return warmRuns;
+    }
+
+    /**
+     * Sets the warmRuns.
+     *
+     * @param warmRuns
+     */
+    public void setWarmRuns(long warmRuns) {
+        this.warmRuns = warmRuns;
+    }
+
+    /**
+     * Gets the savedMillis.
+     *
+     * @return
+     */
+    public long getSavedMillis() {
+        return savedMillis;
+    }
+
+    /**
+     * Sets the savedMillis.
+     *
+     * @param savedMillis
+     */
+    public void setSavedMillis(long savedMillis) {
+        this.savedMillis = savedMillis;
+    }
+
+    /**
+     * Gets the warmupCredited.
+     *
+     * @return
+     */
+    public boolean isWarmupCredited() {
+        return warmupCredited;
+    }
+
+    /**
+     * Sets the warmupCredited.
+     *
+     * @param warmupCredited
+     */
+    public void setWarmupCredited(boolean warmupCredited) {
+        this.warmupCredited = warmupCredited;
+    }
+}
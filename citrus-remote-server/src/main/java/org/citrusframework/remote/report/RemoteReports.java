@@ -0,0 +1,89 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.report;
+
+import org.citrusframework.report.JUnitReporter;
+import org.citrusframework.report.LoggingReporter;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * Resolves the report locations written by the unit testing framework present on classpath.
+ *
+ * @since 4.11
+ */
+public final class RemoteReports {
+
+    /** Reports folder resolved once as the unit testing framework on classpath does not change at runtime */
+    private static volatile String junitReportsFolder;
+
+    /**
+     * Prevent instantiation of utility class.
+     */
+    private RemoteReports() {
+        // utility class
+    }
+
+    /**
+     * Find reports folder based in unit testing framework present on classpath.
+     * @return
+     */
+    public static String getJUnitReportsFolder() {
+        if (junitReportsFolder == null) {
+            junitReportsFolder = resolveJUnitReportsFolder();
+        }
+
+        return junitReportsFolder;
+    }
+
+    private static String resolveJUnitReportsFolder() {
+        if (isPresent("org.testng.annotations.Test")) {
+            return "target/citrus-reports" + File.separator + "junitreports";
+        } else if (isPresent("org.junit.Test")) {
+            JUnitReporter jUnitReporter = new JUnitReporter();
+            return jUnitReporter.getReportDirectory() +
+                    File.separator +
+                    jUnitReporter.getOutputDirectory();
+        } else {
+            return new LoggingReporter().getReportDirectory();
+        }
+    }
+
+    /**
+     * Gets the JUnit suite report file.
+     * @return
+     */
+    public static Path getSuiteReportFile() {
+        JUnitReporter jUnitReporter = new JUnitReporter();
+        return Path.of(jUnitReporter.getReportDirectory())
+                .resolve(String.format(
+                        jUnitReporter.getReportFileNamePattern(),
+                        jUnitReporter.getSuiteName()));
+    }
+
+    // TODO: Check if this is equivalent to
+    // https://github.com/spring-projects/spring-framework/blob/main/spring-core/src/main/java/org/springframework/util/ClassUtils.java
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
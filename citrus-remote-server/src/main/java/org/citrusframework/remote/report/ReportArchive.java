@@ -0,0 +1,150 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.report;
+
+import org.citrusframework.remote.model.RemoteReportManifest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Zip archive of the JUnit reports of a test run. The suite report file is placed at the archive root and the
+ * report files of the individual tests in the junitreports folder, which is the layout the Maven plugin uses in
+ * its reports directory. Entries keep the modification time of the report files.
+ *
+ * @since 4.11
+ */
+public class ReportArchive {
+
+    /** Archive folder holding the report files of the individual tests */
+    public static final String JUNIT_REPORTS_FOLDER = "junitreports/";
+
+    private final Path junitReportsFolder;
+    private final Path suiteReportFile;
+
+    /** Archive entry names to include */
+    private final Predicate<String> entryFilter;
+
+    /**
+     * Constructor using the report locations.
+     * @param junitReportsFolder
+     * @param suiteReportFile
+     */
+    public ReportArchive(Path junitReportsFolder, Path suiteReportFile) {
+        this(junitReportsFolder, suiteReportFile, name -> true);
+    }
+
+    /**
+     * Constructor using the report locations and a filter on the archive entry names.
+     * @param junitReportsFolder
+     * @param suiteReportFile
+     * @param entryFilter
+     */
+    public ReportArchive(Path junitReportsFolder, Path suiteReportFile, Predicate<String> entryFilter) {
+        this.junitReportsFolder = junitReportsFolder;
+        this.suiteReportFile = suiteReportFile;
+        this.entryFilter = entryFilter;
+    }
+
+    /**
+     * Compares the report files with given manifest of files the client already holds and returns the archive
+     * entry names of all files that are missing on the client or have different content. Uses the hashes of the
+     * report index and indexes the report folders when necessary, so this may block.
+     * @param reportIndex
+     * @param manifest
+     * @return
+     */
+    public Set<String> changedEntries(ReportIndex reportIndex, RemoteReportManifest manifest) {
+        Set<String> changed = new LinkedHashSet<>();
+
+        Path suiteFolder = suiteReportFile.getParent();
+        String suiteEntry = suiteReportFile.getFileName().toString();
+        indexed(reportIndex, suiteFolder).stream()
+                .filter(reportFile -> reportFile.name().equals(suiteEntry))
+                .filter(reportFile -> !reportFile.sha256().equals(manifest.getFiles().get(suiteEntry)))
+                .forEach(reportFile -> changed.add(suiteEntry));
+
+        indexed(reportIndex, junitReportsFolder).stream()
+                .filter(reportFile -> !reportFile.sha256().equals(
+                        manifest.getFiles().get(JUNIT_REPORTS_FOLDER + reportFile.name())))
+                .forEach(reportFile -> changed.add(JUNIT_REPORTS_FOLDER + reportFile.name()));
+
+        return changed;
+    }
+
+    private static List<ReportIndex.ReportFile> indexed(ReportIndex reportIndex, Path folder) {
+        return reportIndex.list(folder).orElseGet(() -> reportIndex.refresh(folder));
+    }
+
+    /**
+     * Creates a copy of this archive only holding the entries accepted by given filter.
+     * @param entryFilter
+     * @return
+     */
+    public ReportArchive filter(Predicate<String> entryFilter) {
+        return new ReportArchive(junitReportsFolder, suiteReportFile, this.entryFilter.and(entryFilter));
+    }
+
+    /**
+     * Writes the archive to given output stream. Files are read and compressed one at a time so the archive
+     * never needs to be held in memory or in a temporary file. Closes the output stream.
+     * @param out
+     * @return number of archived files
+     * @throws IOException
+     */
+    public int writeTo(OutputStream out) throws IOException {
+        int entries = 0;
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            String suiteEntry = suiteReportFile.getFileName().toString();
+            if (entryFilter.test(suiteEntry) && Files.isRegularFile(suiteReportFile)) {
+                addEntry(zip, suiteEntry, suiteReportFile);
+                entries++;
+            }
+
+            if (Files.isDirectory(junitReportsFolder)) {
+                try (DirectoryStream<Path> reportFiles = Files.newDirectoryStream(junitReportsFolder, Files::isRegularFile)) {
+                    for (Path reportFile : reportFiles) {
+                        String entry = JUNIT_REPORTS_FOLDER + reportFile.getFileName();
+                        if (entryFilter.test(entry)) {
+                            addEntry(zip, entry, reportFile);
+                            entries++;
+                        }
+                    }
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    private static void addEntry(ZipOutputStream zip, String name, Path file) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setLastModifiedTime(Files.getLastModifiedTime(file));
+        zip.putNextEntry(entry);
+        Files.copy(file, zip);
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.report;
+
+import org.citrusframework.remote.util.Sha256;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * In-memory index of report directories holding name, size, modification time and content hash of each report
+ * file. Endpoints read listings and file validators from the index without touching the file system. Directories
+ * are indexed on first use or explicit refresh. Watched directories are kept up to date by a file system watcher
+ * thread, the other directories get refreshed by callers once their content has changed, e.g. when a job has finished.
+ *
+ * @since 4.11
+ */
+public class ReportIndex implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ReportIndex.class);
+
+    /** Indexed report files per directory */
+    private final Map<Path, Map<String, ReportFile>> directories = new ConcurrentHashMap<>();
+
+    /** Directories to keep up to date with the file system watcher */
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+    private final Map<WatchKey, Path> watchKeys = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+
+    /**
+     * Indexed report file.
+     * @param name
+     * @param size
+     * @param lastModified
+     * @param sha256
+     */
+    public record ReportFile(String name, long size, long lastModified, String sha256) {
+    }
+
+    /**
+     * Starts the file system watcher thread.
+     */
+    public void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            logger.warn("Unable to watch report directories - index gets refreshed on job completion only", e);
+            return;
+        }
+
+        Thread watcher = new Thread(this::processEvents, "citrus-remote-report-index");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Adds given directory to the watched directories and indexes its content. Directories that do not exist yet
+     * get registered with the watcher on the next refresh.
+     * @param directory
+     */
+    public void watch(Path directory) {
+        Path key = normalize(directory);
+        watchedDirectories.add(key);
+        refresh(key);
+    }
+
+    /**
+     * Gets the indexed report files of given directory sorted by name. Empty when the directory has not been indexed yet.
+     * @param directory
+     * @return
+     */
+    public Optional<List<ReportFile>> list(Path directory) {
+        return Optional.ofNullable(directories.get(normalize(directory)))
+                .map(ReportIndex::sorted);
+    }
+
+    /**
+     * Gets the indexed report file with given name in given directory.
+     * @param directory
+     * @param name
+     * @return
+     */
+    public Optional<ReportFile> get(Path directory, String name) {
+        return Optional.ofNullable(directories.get(normalize(directory)))
+                .map(files -> files.get(name));
+    }
+
+    /**
+     * Gets the report file with given name in given directory, validated against the file on disk. Entries whose size or
+     * modification time no longer match the file are indexed again, so validators always describe the file actually
+     * served. Empty when the file does not exist. Blocking operation.
+     * @param directory
+     * @param name
+     * @return
+     */
+    public Optional<ReportFile> current(Path directory, String name) {
+        Path key = normalize(directory);
+        Path file = key.resolve(name).normalize();
+        if (!key.equals(file.getParent())) {
+            return Optional.empty();
+        }
+
+        Optional<ReportFile> indexed = get(key, name);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (indexed.isPresent() && attributes.isRegularFile()
+                    && indexed.get().size() == attributes.size()
+                    && indexed.get().lastModified() == attributes.lastModifiedTime().toMillis()) {
+                return indexed;
+            }
+        } catch (IOException e) {
+            // file does not exist (anymore), update removes the stale entry
+        }
+
+        update(key, file);
+        return get(key, name);
+    }
+
+    /**
+     * Indexes the content of given directory replacing any previous index of this directory. Blocking operation.
+     * @param directory
+     * @return the indexed report files sorted by name
+     */
+    public List<ReportFile> refresh(Path directory) {
+        Path key = normalize(directory);
+        Map<String, ReportFile> files = new ConcurrentHashMap<>();
+
+        if (Files.isDirectory(key)) {
+            register(key);
+
+            try (DirectoryStream<Path> reportFiles = Files.newDirectoryStream(key, Files::isRegularFile)) {
+                for (Path reportFile : reportFiles) {
+                    index(reportFile).ifPresent(file -> files.put(file.name(), file));
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to index report directory {}", key, e);
+            }
+        }
+
+        directories.put(key, files);
+        return sorted(files);
+    }
+
+    private void register(Path directory) {
+        if (watchService == null || !watchedDirectories.contains(directory) || watchKeys.containsValue(directory)) {
+            return;
+        }
+
+        try {
+            watchKeys.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+            logger.debug("Watching report directory {}", directory);
+        } catch (IOException e) {
+            logger.warn("Unable to watch report directory {}", directory, e);
+        }
+    }
+
+    private void processEvents() {
+        while (true) {
+            WatchKey watchKey;
+            try {
+                watchKey = watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = watchKeys.get(watchKey);
+            if (directory != null) {
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        refresh(directory);
+                    } else if (event.context() instanceof Path name) {
+                        update(directory, directory.resolve(name));
+                    }
+                }
+            }
+
+            if (!watchKey.reset()) {
+                watchKeys.remove(watchKey);
+                if (directory != null) {
+                    directories.remove(directory);
+                }
+            }
+        }
+    }
+
+    private void update(Path directory, Path file) {
+        Map<String, ReportFile> files = directories.computeIfAbsent(directory, key -> new ConcurrentHashMap<>());
+        Optional<ReportFile> reportFile = Files.isRegularFile(file) ? index(file) : Optional.empty();
+        if (reportFile.isPresent()) {
+            files.put(reportFile.get().name(), reportFile.get());
+        } else {
+            files.remove(file.getFileName().toString());
+        }
+    }
+
+    private static Optional<ReportFile> index(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return Optional.of(new ReportFile(file.getFileName().toString(),
+                    attributes.size(),
+                    attributes.lastModifiedTime().toMillis(),
+                    Sha256.hex(file)));
+        } catch (IOException e) {
+            // file has been removed or is not readable (yet), next event or refresh will pick it up
+            logger.debug("Unable to index report file {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private static List<ReportFile> sorted(Map<String, ReportFile> files) {
+        List<ReportFile> sorted = new ArrayList<>(files.values());
+        sorted.sort(Comparator.comparing(ReportFile::name));
+        return sorted;
+    }
+
+    private static Path normalize(Path directory) {
+        return directory.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close report directory watcher", e);
+            }
+        }
+    }
+}
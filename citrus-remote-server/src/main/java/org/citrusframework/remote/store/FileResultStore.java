@@ -0,0 +1,422 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.store;
+
+import org.citrusframework.remote.model.RemoteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Result store appending the results of each job to a binary file. Records are written to a buffer right away
+ * and a background thread flushes and syncs all written records to disk in batches once per sync interval,
+ * so a crash loses at most the results of the last interval.
+ * <p>
+ * Records are compact: class names, test names and failure causes are written once per file and referenced by
+ * number afterwards, numbers are variable length encoded. A successful test takes about ten bytes on disk and
+ * loaded results share the string instances of the file. Incomplete records at the end of a file, e.g. after
+ * a crash, are ignored when loading.
+ *
+ * @since 4.11
+ */
+public class FileResultStore implements ResultStore {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(FileResultStore.class);
+
+    private static final String FILE_EXTENSION = ".results";
+    private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9-]+");
+
+    /** File header marker "CRR1" */
+    private static final int MAGIC = 0x43525231;
+
+    /** Record types */
+    private static final int STRING = 1;
+    private static final int RESULT = 2;
+    private static final int FINISH = 3;
+    private static final int RETRY_RESULT = 4;
+
+    /** Result status */
+    private static final int SUCCESS = 0;
+    private static final int FAILED = 1;
+    private static final int SKIPPED = 2;
+    private static final int FLAKY = 0x4;
+
+    private final Path directory;
+
+    /** Open files of the running jobs */
+    private final Map<String, JobLog> logs = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService syncExecutor;
+
+    /**
+     * Constructor using the store directory and the interval in milliseconds records are synced to disk.
+     * @param directory
+     * @param syncInterval
+     */
+    public FileResultStore(Path directory, long syncInterval) {
+        this.directory = directory;
+        this.syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "citrus-remote-result-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncExecutor.scheduleWithFixedDelay(this::sync, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void append(String jobId, RemoteResult result) {
+        JobLog log = logs.computeIfAbsent(jobId, this::open);
+        if (log == null) {
+            return;
+        }
+
+        try {
+            log.writeResult(result);
+        } catch (IOException e) {
+            logger.warn("Failed to store test result of job {}", jobId, e);
+        }
+    }
+
+    @Override
+    public void finish(String jobId, String state) {
+        JobLog log = Optional.ofNullable(logs.remove(jobId)).orElseGet(() -> open(jobId));
+        if (log == null) {
+            return;
+        }
+
+        try {
+            log.writeFinish(state);
+        } catch (IOException e) {
+            logger.warn("Failed to store state of job {}", jobId, e);
+        } finally {
+            log.close();
+        }
+    }
+
+    @Override
+    public List<String> getJobIds() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        Map<String, Long> created = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+            for (Path file : files) {
+                try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+                    if (in.readInt() == MAGIC) {
+                        created.put(jobId(file), in.readLong());
+                    }
+                } catch (IOException e) {
+                    logger.debug("Ignoring invalid result store file {}", file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to list result store directory {}", directory, e);
+        }
+
+        return created.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public Optional<StoredJob> load(String jobId) {
+        Path file = file(jobId);
+        if (file == null || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        JobLog log = logs.get(jobId);
+        try {
+            if (log != null) {
+                log.flush();
+            }
+            return Optional.of(read(jobId, file));
+        } catch (IOException e) {
+            logger.warn("Failed to load test results of job {}", jobId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String jobId) {
+        Path file = file(jobId);
+        if (file == null) {
+            return;
+        }
+
+        Optional.ofNullable(logs.remove(jobId)).ifPresent(JobLog::close);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete test results of job {}", jobId, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        syncExecutor.shutdown();
+        logs.values().forEach(JobLog::close);
+        logs.clear();
+    }
+
+    /**
+     * Flushes and syncs the records written since the last sync.
+     */
+    private void sync() {
+        for (Map.Entry<String, JobLog> log : logs.entrySet()) {
+            try {
+                log.getValue().sync();
+            } catch (IOException e) {
+                logger.warn("Failed to sync test results of job {}", log.getKey(), e);
+            }
+        }
+    }
+
+    private JobLog open(String jobId) {
+        Path file = file(jobId);
+        if (file == null) {
+            logger.warn("Unable to store test results of job with invalid id {}", jobId);
+            return null;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            return new JobLog(FileChannel.open(file, CREATE_NEW, WRITE));
+        } catch (IOException e) {
+            logger.warn("Failed to create result store file {}", file, e);
+            return null;
+        }
+    }
+
+    private Path file(String jobId) {
+        return JOB_ID.matcher(jobId).matches() ? directory.resolve(jobId + FILE_EXTENSION) : null;
+    }
+
+    private static String jobId(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+    }
+
+    private static StoredJob read(String jobId, Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid result store file: " + file);
+            }
+            long created = in.readLong();
+
+            List<String> strings = new ArrayList<>();
+            strings.add(null);
+            List<RemoteResult> results = new ArrayList<>();
+            String state = null;
+            try {
+                int type;
+                while ((type = in.read()) != -1) {
+                    switch (type) {
+                        case STRING -> strings.add(in.readUTF());
+                        case RESULT -> results.add(readResult(in, strings, false));
+                        case RETRY_RESULT -> results.add(readResult(in, strings, true));
+                        case FINISH -> state = in.readUTF();
+                        default -> throw new IOException("Invalid record type %d in result store file: %s"
+                                .formatted(type, file));
+                    }
+                }
+            } catch (EOFException e) {
+                logger.debug("Ignoring incomplete record at the end of result store file {}", file);
+            }
+
+            return new StoredJob(jobId, created, state, results);
+        }
+    }
+
+    private static RemoteResult readResult(DataInput in, List<String> strings, boolean retry) throws IOException {
+        RemoteResult result = new RemoteResult();
+        int flags = in.readByte();
+        int status = flags & 0x3;
+        result.setSuccess(status == SUCCESS);
+        result.setFailed(status == FAILED);
+        result.setSkipped(status == SKIPPED);
+        result.setFlaky((flags & FLAKY) != 0);
+        if (retry) {
+            result.setAttempts((int) readVarLong(in));
+        }
+
+        long duration = readVarLong(in);
+        result.setDurationMillis(duration == 0 ? null : duration - 1);
+        result.setTestClass(strings.get((int) readVarLong(in)));
+        result.setTestName(strings.get((int) readVarLong(in)));
+        result.setCause(strings.get((int) readVarLong(in)));
+        result.setErrorMessage(readText(in));
+        result.setFailureStack(readText(in));
+        return result;
+    }
+
+    private static String readText(DataInput in) throws IOException {
+        long length = readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[(int) length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid variable length number in result store file");
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Open result file of a running job.
+     */
+    private static final class JobLog {
+        private final FileChannel channel;
+        private final DataOutputStream out;
+
+        /** Numbers of the strings written to this file so far */
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        private boolean dirty;
+
+        private JobLog(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeLong(System.currentTimeMillis());
+            dirty = true;
+        }
+
+        private synchronized void writeResult(RemoteResult result) throws IOException {
+            int testClass = stringRef(result.getTestClass());
+            int testName = stringRef(result.getTestName());
+            int cause = stringRef(result.getCause());
+
+            int status = result.isSkipped() ? SKIPPED : result.isFailed() ? FAILED : SUCCESS;
+            out.writeByte(result.getAttempts() > 1 ? RETRY_RESULT : RESULT);
+            out.writeByte(result.isFlaky() ? status | FLAKY : status);
+            if (result.getAttempts() > 1) {
+                writeVarLong(out, result.getAttempts());
+            }
+            writeVarLong(out, result.getDurationMillis() == null ? 0 : result.getDurationMillis() + 1);
+            writeVarLong(out, testClass);
+            writeVarLong(out, testName);
+            writeVarLong(out, cause);
+            writeText(result.getErrorMessage());
+            writeText(result.getFailureStack());
+            dirty = true;
+        }
+
+        private synchronized void writeFinish(String state) throws IOException {
+            out.writeByte(FINISH);
+            out.writeUTF(state);
+            dirty = true;
+        }
+
+        private int stringRef(String value) throws IOException {
+            if (value == null) {
+                return 0;
+            }
+
+            Integer ref = strings.get(value);
+            if (ref == null) {
+                out.writeByte(STRING);
+                out.writeUTF(value);
+                ref = strings.size() + 1;
+                strings.put(value, ref);
+            }
+            return ref;
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                writeVarLong(out, 0);
+                return;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length + 1L);
+            out.write(bytes);
+        }
+
+        private synchronized void flush() throws IOException {
+            out.flush();
+        }
+
+        private synchronized void sync() throws IOException {
+            if (dirty && channel.isOpen()) {
+                out.flush();
+                channel.force(false);
+                dirty = false;
+            }
+        }
+
+        private synchronized void close() {
+            try {
+                sync();
+                out.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close result store file", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.store;
+
+import org.citrusframework.remote.model.RemoteResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Result store keeping the results in memory only. Results do not survive a server restart.
+ *
+ * @since 4.11
+ */
+public class InMemoryResultStore implements ResultStore {
+
+    /** Stored jobs in creation order */
+    private final Map<String, StoredJob> jobs = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void append(String jobId, RemoteResult result) {
+        StoredJob job = jobs.computeIfAbsent(jobId,
+                id -> new StoredJob(id, System.currentTimeMillis(), null, new ArrayList<>()));
+        job.results().add(result);
+    }
+
+    @Override
+    public synchronized void finish(String jobId, String state) {
+        StoredJob job = jobs.get(jobId);
+        jobs.put(jobId, new StoredJob(jobId,
+                job != null ? job.created() : System.currentTimeMillis(),
+                state,
+                job != null ? job.results() : new ArrayList<>()));
+    }
+
+    @Override
+    public synchronized List<String> getJobIds() {
+        return new ArrayList<>(jobs.keySet());
+    }
+
+    @Override
+    public synchronized Optional<StoredJob> load(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .map(job -> new StoredJob(job.id(), job.created(), job.state(), List.copyOf(job.results())));
+    }
+
+    @Override
+    public synchronized void delete(String jobId) {
+        jobs.remove(jobId);
+    }
+
+    @Override
+    public void close() {
+        // NOOP
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.store;
+
+import org.citrusframework.remote.model.RemoteResult;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Store for the test results of remote jobs. Results are appended in the order they are reported while the job
+ * is running, so the results of a job can be restored after a server restart.
+ *
+ * @since 4.11
+ */
+public interface ResultStore extends AutoCloseable {
+
+    /**
+     * Stored results of a job.
+     * @param id job id
+     * @param created time the first record of the job has been stored
+     * @param state final job state, null when the job has not finished
+     * @param results results in the order they have been reported
+     */
+    record StoredJob(String id, long created, String state, List<RemoteResult> results) {
+    }
+
+    /**
+     * Appends given result to the results of the job.
+     * @param jobId
+     * @param result
+     */
+    void append(String jobId, RemoteResult result);
+
+    /**
+     * Marks the job as finished with given state. No results are appended to a finished job.
+     * @param jobId
+     * @param state
+     */
+    void finish(String jobId, String state);
+
+    /**
+     * Gets the ids of all stored jobs, oldest first.
+     * @return
+     */
+    List<String> getJobIds();
+
+    /**
+     * Loads the stored results of given job.
+     * @param jobId
+     * @return
+     */
+    Optional<StoredJob> load(String jobId);
+
+    /**
+     * Removes all results of given job.
+     * @param jobId
+     */
+    void delete(String jobId);
+
+    @Override
+    void close();
+}
@@ -36,4 +36,20 @@ public class JsonRequestTransformer {
             throw new CitrusRuntimeException("Failed to read json body", e);
         }
     }
+
+    /**
+     * Reads given request body with given encoding.
+     * @param body
+     * @param bodyType
+     * @param encoding
+     * @return
+     * @param <T>
+     */
+    public <T> T read(byte[] body, Class<T> bodyType, ResultEncoding encoding) {
+        try {
+            return (encoding.isBinary() ? encoding.getMapper() : mapper).readValue(body, bodyType);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read %s body".formatted(encoding.name().toLowerCase()), e);
+        }
+    }
 }
@@ -18,9 +18,13 @@ package org.citrusframework.remote.transformer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
@@ -44,4 +48,27 @@ public class JsonResponseTransformer {
             throw new CitrusRuntimeException("Failed to write json test results", e);
         }
     }
+
+    /**
+     * Serializes given model with given encoding into the output stream. Output is compact unless pretty printing
+     * is requested, which only applies to the JSON encoding. Callers write responses from worker threads with a
+     * {@link org.citrusframework.remote.http.BlockingResponseOutputStream}, so serialization never blocks the event
+     * loop and honors the response write queue.
+     * @param out
+     * @param model
+     * @param pretty
+     * @param encoding
+     * @throws IOException
+     */
+    public void write(OutputStream out, Object model, boolean pretty, ResultEncoding encoding) throws IOException {
+        ObjectWriter writer;
+        if (encoding.isBinary()) {
+            writer = encoding.getMapper().writer();
+        } else {
+            writer = pretty ? mapper.writer(SerializationFeature.INDENT_OUTPUT) :
+                    mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        }
+
+        writer.writeValue(out, model);
+    }
 }
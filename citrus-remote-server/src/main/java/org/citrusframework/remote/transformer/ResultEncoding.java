@@ -0,0 +1,135 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.transformer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Supported encodings of result payloads. Besides text JSON clients may ask for the binary CBOR and Smile encodings
+ * which are more compact and faster to parse for large result lists.
+ *
+ * @since 4.11
+ */
+public enum ResultEncoding {
+
+    JSON("application/json", new ObjectMapper()),
+    CBOR("application/cbor", new CBORMapper()),
+    SMILE("application/x-jackson-smile", new SmileMapper());
+
+    private final String mediaType;
+    private final ObjectMapper mapper;
+
+    ResultEncoding(String mediaType, ObjectMapper mapper) {
+        this.mediaType = mediaType;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Resolves the encoding for given media type.
+     * @param mediaType
+     * @return
+     */
+    public static Optional<ResultEncoding> fromMediaType(String mediaType) {
+        if (mediaType == null) {
+            return Optional.empty();
+        }
+
+        String type = mediaType.split(";", 2)[0].trim().toLowerCase(Locale.US);
+        return Arrays.stream(values())
+                .filter(encoding -> encoding.mediaType.equals(type))
+                .findFirst();
+    }
+
+    /**
+     * Selects the encoding preferred by given Accept header value. Honors quality values and uses the first
+     * supported media type on ties. Falls back to JSON when no supported media type is accepted.
+     * @param accept
+     * @return
+     */
+    public static ResultEncoding fromAccept(String accept) {
+        if (accept == null) {
+            return JSON;
+        }
+
+        ResultEncoding selected = JSON;
+        double selectedQuality = -1D;
+        for (String range : accept.split(",")) {
+            Optional<ResultEncoding> encoding = fromMediaType(range);
+            double quality = quality(range);
+            if (encoding.isPresent() && quality > 0D && quality > selectedQuality) {
+                selected = encoding.get();
+                selectedQuality = quality;
+            }
+        }
+
+        return selected;
+    }
+
+    /**
+     * Resolves the encoding by its name (json, cbor, smile) ignoring case.
+     * @param name
+     * @return
+     */
+    public static ResultEncoding fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.US));
+    }
+
+    private static double quality(String range) {
+        for (String parameter : range.split(";")) {
+            String[] keyValue = parameter.trim().split("=", 2);
+            if (keyValue.length == 2 && keyValue[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(keyValue[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0D;
+                }
+            }
+        }
+
+        return 1D;
+    }
+
+    /**
+     * Checks if this is a binary encoding.
+     * @return
+     */
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * Gets the mediaType.
+     * @return
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Gets the object mapper reading and writing this encoding.
+     * @return
+     */
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.warmup;
+
+import org.citrusframework.Citrus;
+import org.citrusframework.CitrusInstanceManager;
+import org.citrusframework.endpoint.Endpoint;
+import org.citrusframework.remote.CitrusRemoteConfiguration;
+import org.citrusframework.remote.model.RemoteWarmup;
+import org.citrusframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Initializes the Citrus instance ahead of the first test run. With the singleton instance strategy all test runs
+ * share this instance, so bean definitions, endpoints and their clients are created once and kept warm instead of
+ * being created on the first test of a run. Keeps track of the startup time saved by test runs using the warm context.
+ * The current state is published as an immutable snapshot, so readers never block on a warmup in progress.
+ *
+ * @since 4.11
+ */
+public class WarmContext {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(WarmContext.class);
+
+    /** System property the Citrus Spring context provider reads the configuration class from */
+    private static final String SPRING_JAVA_CONFIG_PROPERTY = "citrus.spring.java.config";
+
+    private final CitrusRemoteConfiguration configuration;
+
+    private boolean warm;
+    private long warmupMillis;
+    private int endpoints;
+    private long warmRuns;
+    private long savedMillis;
+
+    /** Latest state snapshot, replaced on every change */
+    private volatile RemoteWarmup state = createState();
+
+    /**
+     * Constructor using the server configuration.
+     * @param configuration
+     */
+    public WarmContext(CitrusRemoteConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Creates the Citrus instance with the configured config class and initializes all endpoints. Subsequent calls
+     * return the current state without initializing again. Blocking operation.
+     * @return
+     */
+    public synchronized RemoteWarmup warmup() {
+        if (warm) {
+            return state;
+        }
+
+        long start = System.nanoTime();
+        configuration.getDefaultProperties().forEach((key, value) ->
+                System.setProperty(key, Optional.ofNullable(value).orElse("")));
+        if (StringUtils.hasText(configuration.getConfigClass()) && System.getProperty(SPRING_JAVA_CONFIG_PROPERTY) == null) {
+            System.setProperty(SPRING_JAVA_CONFIG_PROPERTY, configuration.getConfigClass());
+        }
+
+        Citrus citrus = CitrusInstanceManager.getOrDefault();
+        endpoints = initializeEndpoints(citrus);
+
+        warmupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        warm = true;
+        state = createState();
+        logger.info("Warmed up Citrus context with {} endpoints in {} ms", endpoints, warmupMillis);
+        return state;
+    }
+
+    /**
+     * Records a test run starting with the current context. Waits for a warmup in progress to complete, so the run
+     * does not create a second Citrus context concurrently. The warmup time is credited to the first run only, as
+     * without the warmup just that run would have paid for creating the context. This is a one-off credit, not a
+     * measurement of the context acquisition time of each run.
+     * @return the warmup time credited to the run, zero after the first run, null when the context is not warm
+     */
+    public synchronized Long startRun() {
+        if (!warm) {
+            return null;
+        }
+
+        long saved = warmRuns == 0 ? warmupMillis : 0L;
+        warmRuns++;
+        savedMillis += saved;
+        state = createState();
+        return saved;
+    }
+
+    /**
+     * Gets the current warmup state. Does not block while a warmup is in progress.
+     * @return
+     */
+    public RemoteWarmup getState() {
+        return state;
+    }
+
+    private RemoteWarmup createState() {
+        RemoteWarmup state = new RemoteWarmup();
+        state.setWarm(warm);
+        state.setWarmupMillis(warmupMillis);
+        state.setEndpoints(endpoints);
+        state.setWarmRuns(warmRuns);
+        state.setSavedMillis(savedMillis);
+        state.setWarmupCredited(warmRuns > 0);
+        return state;
+    }
+
+    /**
+     * Resolves all endpoints from the Citrus context so the bean factory instantiates them, and creates their
+     * producers so endpoint clients are ready to use.
+     * @param citrus
+     * @return
+     */
+    private static int initializeEndpoints(Citrus citrus) {
+        Map<String, Endpoint> endpoints = citrus.getCitrusContext().getReferenceResolver().resolveAll(Endpoint.class);
+        endpoints.forEach((name, endpoint) -> {
+            try {
+                endpoint.createProducer();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to warm up endpoint '{}'", name, e);
+            }
+        });
+        return endpoints.size();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.deploy;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.remote.model.RemoteLayer;
+import org.citrusframework.remote.model.RemoteLayerManifest;
+import org.citrusframework.remote.util.Sha256;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class LayerStoreTest {
+
+    private Path directory;
+    private JarCache jarCache;
+    private LayerStore layerStore;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("citrus-remote-layers");
+        jarCache = new JarCache(directory.resolve("jars"));
+        layerStore = new LayerStore(directory.resolve("layers"), jarCache);
+        Files.createDirectories(directory.resolve("layers"));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldStoreDependencyLayerAsClasspathOnly() throws IOException {
+        Path upload = zip("dependencies.zip",
+                "META-INF/MANIFEST.MF", "Manifest-Version: 1.0",
+                "lib/foo.jar", "foo",
+                "lib/bar.jar", "bar");
+        String sha256 = Sha256.hex(upload);
+
+        layerStore.store(sha256, upload);
+
+        assertTrue(layerStore.contains(sha256));
+        assertFalse(Files.exists(upload));
+        assertFalse(Files.exists(directory.resolve("layers").resolve(sha256 + ".jar")));
+        assertThrows(CitrusRuntimeException.class, () -> layerStore.layerFile(sha256));
+
+        List<Path> jars = layerStore.jars(sha256);
+        assertEquals(jars.size(), 2);
+        assertEquals(Files.readString(jars.get(0)), "foo");
+        assertEquals(Files.readString(jars.get(1)), "bar");
+    }
+
+    @Test
+    public void shouldStoreTestsLayerAsArchive() throws IOException {
+        Path upload = zip("tests.zip",
+                "org/example/FooIT.class", "class",
+                "citrus-application.properties", "citrus.default.src.directory=src");
+        String sha256 = Sha256.hex(upload);
+
+        layerStore.store(sha256, upload);
+
+        assertTrue(layerStore.contains(sha256));
+        assertFalse(Files.exists(upload));
+        assertEquals(Sha256.hex(layerStore.layerFile(sha256)), sha256);
+        assertFalse(Files.exists(directory.resolve("jars")));
+    }
+
+    @Test
+    public void shouldShareNestedJarsAcrossLayers() throws IOException {
+        Path first = zip("first.zip", "lib/foo.jar", "foo", "lib/bar.jar", "bar");
+        Path second = zip("second.zip", "lib/foo.jar", "foo");
+        String firstSha256 = Sha256.hex(first);
+        String secondSha256 = Sha256.hex(second);
+
+        layerStore.store(firstSha256, first);
+        layerStore.store(secondSha256, second);
+
+        assertEquals(layerStore.jars(secondSha256), layerStore.jars(firstSha256).subList(0, 1));
+        try (Stream<Path> jars = Files.list(directory.resolve("jars"))) {
+            assertEquals(jars.count(), 2L);
+        }
+    }
+
+    @Test
+    public void shouldRejectHashMismatch() throws IOException {
+        Path upload = zip("dependencies.zip", "lib/foo.jar", "foo");
+        String sha256 = Sha256.hex("something else");
+
+        assertThrows(CitrusRuntimeException.class, () -> layerStore.store(sha256, upload));
+        assertFalse(layerStore.contains(sha256));
+        assertFalse(Files.exists(upload));
+    }
+
+    @Test
+    public void shouldComputeMissingLayers() throws IOException {
+        Path upload = zip("dependencies.zip", "lib/foo.jar", "foo");
+        String stored = Sha256.hex(upload);
+        layerStore.store(stored, upload);
+
+        String unknown = Sha256.hex("unknown");
+        RemoteLayerManifest manifest = new RemoteLayerManifest();
+        manifest.setLayers(List.of(
+                new RemoteLayer(RemoteLayer.DEPENDENCIES, stored, 1L),
+                new RemoteLayer(RemoteLayer.PROJECT_DEPENDENCIES, unknown, 1L),
+                new RemoteLayer(RemoteLayer.TESTS, unknown, 1L)));
+
+        assertEquals(layerStore.missing(manifest), List.of(unknown));
+    }
+
+    @Test
+    public void shouldComputeMissingJars() throws IOException {
+        Path jar = directory.resolve("foo.jar");
+        Files.writeString(jar, "foo");
+        String cached = jarCache.add(jar);
+        String unknown = Sha256.hex("unknown");
+
+        assertEquals(jarCache.missing(List.of(cached, unknown, unknown, "../invalid")), List.of(unknown, "../invalid"));
+        assertTrue(jarCache.contains(cached));
+    }
+
+    private Path zip(String name, String... entries) throws IOException {
+        Path file = directory.resolve(name);
+        try (OutputStream out = Files.newOutputStream(file);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return file;
+    }
+}
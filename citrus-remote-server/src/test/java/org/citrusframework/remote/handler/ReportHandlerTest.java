@@ -0,0 +1,162 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.handler;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import org.citrusframework.main.TestRunConfiguration;
+import org.citrusframework.remote.CitrusRemoteConfiguration;
+import org.citrusframework.remote.CitrusRemoteContext;
+import org.citrusframework.remote.job.RemoteJob;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class ReportHandlerTest {
+
+    private Path directory;
+    private Path reportFile;
+    private String reportPath;
+    private String listingPath;
+
+    private CitrusRemoteContext remoteContext;
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpClient client;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("citrus-remote-data");
+
+        CitrusRemoteConfiguration configuration = new CitrusRemoteConfiguration();
+        configuration.setDataDirectory(directory.toString());
+        configuration.setResultStore("memory");
+        remoteContext = new CitrusRemoteContext(configuration);
+
+        RemoteJob job = remoteContext.getJobRegistry().create(new TestRunConfiguration());
+        remoteContext.getJobRegistry().register(job);
+        reportFile = Files.createDirectories(job.getJUnitReportsDirectory()).resolve("TEST-FooIT.xml");
+        Files.writeString(reportFile, "<testsuite name=\"FooIT\"/>");
+        reportPath = "/jobs/%s/results/file/TEST-FooIT.xml".formatted(job.getId());
+        listingPath = "/jobs/%s/results/files".formatted(job.getId());
+
+        vertx = Vertx.vertx();
+        Router router = Router.router(vertx);
+        new ReportHandler(vertx, remoteContext).addRoutes(router);
+        server = vertx.createHttpServer()
+                .requestHandler(router)
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        client = vertx.createHttpClient();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        remoteContext.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSendReportFileWithValidators() throws Exception {
+        Response response = get(reportPath, MultiMap.caseInsensitiveMultiMap());
+
+        assertEquals(response.status(), 200);
+        assertEquals(response.body(), "<testsuite name=\"FooIT\"/>");
+        assertNotNull(response.headers().get(HttpHeaders.ETAG));
+        assertNotNull(response.headers().get(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    public void shouldRespondNotModifiedForMatchingETag() throws Exception {
+        String etag = get(reportPath, MultiMap.caseInsensitiveMultiMap()).headers().get(HttpHeaders.ETAG);
+
+        Response response = get(reportPath, MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.IF_NONE_MATCH, etag));
+
+        assertEquals(response.status(), 304);
+        assertTrue(response.body().isEmpty());
+    }
+
+    @Test
+    public void shouldRespondNotModifiedForUnchangedModificationTime() throws Exception {
+        String lastModified = get(reportPath, MultiMap.caseInsensitiveMultiMap())
+                .headers().get(HttpHeaders.LAST_MODIFIED);
+
+        Response response = get(reportPath, MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.IF_MODIFIED_SINCE, lastModified));
+
+        assertEquals(response.status(), 304);
+    }
+
+    @Test
+    public void shouldSendChangedReportFile() throws Exception {
+        String etag = get(reportPath, MultiMap.caseInsensitiveMultiMap()).headers().get(HttpHeaders.ETAG);
+        Files.writeString(reportFile, "<testsuite name=\"FooIT\" failures=\"1\"/>");
+
+        Response response = get(reportPath, MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.IF_NONE_MATCH, etag));
+
+        assertEquals(response.status(), 200);
+        assertEquals(response.body(), "<testsuite name=\"FooIT\" failures=\"1\"/>");
+        assertNotEquals(response.headers().get(HttpHeaders.ETAG), etag);
+    }
+
+    @Test
+    public void shouldRespondNotModifiedForUnchangedListing() throws Exception {
+        Response listing = get(listingPath, MultiMap.caseInsensitiveMultiMap());
+        assertEquals(listing.status(), 200);
+        assertTrue(listing.body().contains("TEST-FooIT.xml"));
+
+        Response response = get(listingPath, MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.IF_NONE_MATCH, listing.headers().get(HttpHeaders.ETAG)));
+
+        assertEquals(response.status(), 304);
+    }
+
+    private Response get(String path, MultiMap headers) throws Exception {
+        return client.request(HttpMethod.GET, server.actualPort(), "localhost", path)
+                .compose(request -> request.putHeaders(headers).send())
+                .compose(response -> response.body()
+                        .map(body -> new Response(response.statusCode(), response.headers(), body.toString())))
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private record Response(int status, MultiMap headers, String body) {
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.history;
+
+import org.citrusframework.remote.model.RemoteResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DurationHistoryTest {
+
+    private Path directory;
+    private DurationHistory history;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("citrus-remote-durations");
+        history = new DurationHistory(directory.resolve("durations.properties"));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortLongestFirst() {
+        history.record(List.of(
+                result("org.example.FastIT", 100L),
+                result("org.example.SlowIT", 4000L),
+                result("org.example.SlowIT", 1000L),
+                result("org.example.MediumIT", 2000L)));
+
+        List<String> sorted = history.longestFirst(List.of(
+                "org.example.FastIT",
+                "org.example.UnknownIT",
+                "org.example.MediumIT",
+                "org.example.SlowIT"), Function.identity(), 3000L);
+
+        assertEquals(sorted, List.of(
+                "org.example.SlowIT",
+                "org.example.UnknownIT",
+                "org.example.MediumIT",
+                "org.example.FastIT"));
+    }
+
+    @Test
+    public void shouldKeepOrderOfEqualEstimates() {
+        List<String> tests = List.of("org.example.CIT", "org.example.AIT", "org.example.BIT");
+
+        assertTrue(history.isEmpty());
+        assertEquals(history.longestFirst(tests, Function.identity(), 1000L), tests);
+    }
+
+    @Test
+    public void shouldFallBackToSimpleClassName() {
+        history.record(List.of(result("FooIT", 500L)));
+
+        assertEquals(history.estimate("org.example.FooIT", 1000L), 500L);
+        assertEquals(history.estimate("org.example.BarIT", 1000L), 1000L);
+    }
+
+    @Test
+    public void shouldSmoothAndPersistDurations() {
+        history.record(List.of(result("org.example.FooIT", 1000L)));
+        history.record(List.of(result("org.example.FooIT", 3000L)));
+
+        RemoteResult skipped = result("org.example.FooIT", 60000L);
+        skipped.setSkipped(true);
+        history.record(List.of(skipped, result("org.example.BarIT", null)));
+
+        DurationHistory reloaded = new DurationHistory(history.getFile());
+        assertFalse(reloaded.isEmpty());
+        assertEquals(reloaded.estimate("org.example.FooIT", 0L), 2000L);
+        assertEquals(reloaded.estimate("org.example.BarIT", 0L), 0L);
+    }
+
+    private static RemoteResult result(String testClass, Long durationMillis) {
+        RemoteResult result = new RemoteResult();
+        result.setTestClass(testClass);
+        result.setTestName("test");
+        result.setDurationMillis(durationMillis);
+        result.setSuccess(true);
+        return result;
+    }
+}
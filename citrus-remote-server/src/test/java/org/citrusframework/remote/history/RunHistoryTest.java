@@ -0,0 +1,184 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.history;
+
+import org.citrusframework.remote.model.RemoteHistoryEntry;
+import org.citrusframework.remote.model.RemoteHistoryPage;
+import org.citrusframework.remote.model.RemoteResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class RunHistoryTest {
+
+    private Path directory;
+    private RunHistory history;
+
+    /** Recording times of the jobs */
+    private long job1;
+    private long job2;
+    private long job3;
+
+    @BeforeMethod
+    public void setup() throws IOException, InterruptedException {
+        directory = Files.createTempDirectory("citrus-remote-history");
+        history = new RunHistory(directory);
+
+        history.record("job-1", List.of(
+                result("FooIT", "a", Status.SUCCESS),
+                result("FooIT", "b", Status.FAILED),
+                result("BarIT", "a", Status.SUCCESS)));
+        Thread.sleep(5L);
+        history.record("job-2", List.of(
+                result("FooIT", "a", Status.FAILED),
+                result("BarIT", "a", Status.SKIPPED)));
+        Thread.sleep(5L);
+        history.record("job-3", List.of(
+                result("FooIT", "a", Status.FLAKY),
+                result("FooIT", "b", Status.SUCCESS)));
+
+        List<RemoteHistoryEntry> entries = query(null, null, null, null, null, 0, 10).getEntries();
+        job3 = entries.get(0).getFinished();
+        job2 = entries.get(2).getFinished();
+        job1 = entries.get(4).getFinished();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldListAllEntriesNewestFirst() {
+        RemoteHistoryPage page = query(null, null, null, null, null, 0, 10);
+
+        assertEquals(page.getTotal(), 7L);
+        assertEquals(keys(page), List.of(
+                "job-3:FooIT#b", "job-3:FooIT#a",
+                "job-2:BarIT#a", "job-2:FooIT#a",
+                "job-1:BarIT#a", "job-1:FooIT#b", "job-1:FooIT#a"));
+        assertTrue(job1 < job2 && job2 < job3);
+        assertEquals(page.getEntries().get(1).getStatus(), RemoteHistoryEntry.FLAKY);
+    }
+
+    @Test
+    public void shouldIntersectIndexes() {
+        assertEquals(keys(query("FooIT", "a", null, null, null, 0, 10)),
+                List.of("job-3:FooIT#a", "job-2:FooIT#a", "job-1:FooIT#a"));
+        assertEquals(keys(query("FooIT", null, "failed", null, null, 0, 10)),
+                List.of("job-2:FooIT#a", "job-1:FooIT#b"));
+        assertEquals(keys(query(null, "a", "SUCCESS", null, null, 0, 10)),
+                List.of("job-1:BarIT#a", "job-1:FooIT#a"));
+
+        RemoteHistoryPage empty = query("BarIT", null, "FLAKY", null, null, 0, 10);
+        assertEquals(empty.getTotal(), 0L);
+        assertTrue(empty.getEntries().isEmpty());
+        assertEquals(query("UnknownIT", null, null, null, null, 0, 10).getTotal(), 0L);
+    }
+
+    @Test
+    public void shouldSearchTimeRange() {
+        assertEquals(keys(query(null, null, null, job2, job2, 0, 10)),
+                List.of("job-2:BarIT#a", "job-2:FooIT#a"));
+        assertEquals(query(null, null, null, job2, null, 0, 10).getTotal(), 4L);
+        assertEquals(query(null, null, null, null, job1, 0, 10).getTotal(), 3L);
+        assertEquals(query(null, null, null, job3 + 1, null, 0, 10).getTotal(), 0L);
+        assertEquals(query(null, null, null, null, job1 - 1, 0, 10).getTotal(), 0L);
+        assertEquals(query(null, null, null, job3, job1, 0, 10).getTotal(), 0L);
+
+        assertEquals(keys(query("FooIT", null, null, job2, null, 0, 10)),
+                List.of("job-3:FooIT#b", "job-3:FooIT#a", "job-2:FooIT#a"));
+        assertEquals(keys(query(null, "b", null, job1, job2, 0, 10)),
+                List.of("job-1:FooIT#b"));
+    }
+
+    @Test
+    public void shouldPaginate() {
+        RemoteHistoryPage page = query(null, null, null, null, null, 2, 2);
+        assertEquals(page.getTotal(), 7L);
+        assertEquals(page.getOffset(), 2);
+        assertEquals(page.getLimit(), 2);
+        assertEquals(keys(page), List.of("job-2:BarIT#a", "job-2:FooIT#a"));
+
+        assertEquals(keys(query(null, null, null, null, null, 6, 2)), List.of("job-1:FooIT#a"));
+        assertTrue(query(null, null, null, null, null, 10, 2).getEntries().isEmpty());
+
+        RemoteHistoryPage filtered = query("FooIT", null, null, null, null, 1, 2);
+        assertEquals(filtered.getTotal(), 5L);
+        assertEquals(keys(filtered), List.of("job-3:FooIT#a", "job-2:FooIT#a"));
+    }
+
+    @Test
+    public void shouldQueryEmptyHistory() {
+        RunHistory empty = new RunHistory(directory.resolve("empty"));
+
+        RemoteHistoryPage page = empty.query(new RunHistory.Query("FooIT", null, null, null, null, 0, 10));
+        assertEquals(page.getTotal(), 0L);
+        assertTrue(page.getEntries().isEmpty());
+    }
+
+    @Test
+    public void shouldRejectUnknownStatus() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RunHistory.Query(null, null, "../../entries", null, null, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RunHistory.Query(null, null, "PASSED", null, null, 0, 10));
+        assertEquals(new RunHistory.Query(null, null, "flaky", null, null, 0, 10).status(), "FLAKY");
+    }
+
+    private RemoteHistoryPage query(String testClass, String testName, String status, Long from, Long to,
+                                    int offset, int limit) {
+        return history.query(new RunHistory.Query(testClass, testName, status, from, to, offset, limit));
+    }
+
+    private static List<String> keys(RemoteHistoryPage page) {
+        return page.getEntries().stream()
+                .map(entry -> entry.getJobId() + ":" + entry.getTestClass() + "#" + entry.getTestName())
+                .toList();
+    }
+
+    private static RemoteResult result(String testClass, String testName, Status status) {
+        RemoteResult result = new RemoteResult();
+        result.setTestClass(testClass);
+        result.setTestName(testName);
+        result.setDurationMillis(10L);
+        result.setSuccess(status == Status.SUCCESS || status == Status.FLAKY);
+        result.setFailed(status == Status.FAILED);
+        result.setSkipped(status == Status.SKIPPED);
+        result.setFlaky(status == Status.FLAKY);
+        return result;
+    }
+
+    private enum Status {
+        SUCCESS, FAILED, SKIPPED, FLAKY
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.http;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ByteRangeTest {
+
+    private static final long SIZE = 1000L;
+
+    @DataProvider
+    public Object[][] satisfiableRanges() {
+        return new Object[][] {
+                { "bytes=0-99", 0L, 99L },
+                { "bytes=500-", 500L, 999L },
+                { "bytes=900-2000", 900L, 999L },
+                { "bytes=-200", 800L, 999L },
+                { "bytes=-2000", 0L, 999L },
+                { "bytes= 10 - 19 ", 10L, 19L }
+        };
+    }
+
+    @Test(dataProvider = "satisfiableRanges")
+    public void shouldParseRange(String header, long start, long end) {
+        ByteRange range = ByteRange.parse(header, SIZE).orElseThrow();
+
+        assertEquals(range, new ByteRange(start, end));
+        assertTrue(range.isSatisfiable(SIZE));
+        assertEquals(range.length(), end - start + 1);
+        assertEquals(range.toContentRange(SIZE), "bytes %d-%d/%d".formatted(start, end, SIZE));
+    }
+
+    @DataProvider
+    public Object[][] unsatisfiableRanges() {
+        return new Object[][] {
+                { "bytes=1000-", SIZE },
+                { "bytes=1000-1100", SIZE },
+                { "bytes=-0", SIZE },
+                { "bytes=0-", 0L }
+        };
+    }
+
+    @Test(dataProvider = "unsatisfiableRanges")
+    public void shouldParseUnsatisfiableRange(String header, long size) {
+        Optional<ByteRange> range = ByteRange.parse(header, size);
+
+        assertTrue(range.isPresent());
+        assertFalse(range.get().isSatisfiable(size));
+    }
+
+    @DataProvider
+    public Object[][] ignoredRanges() {
+        return new Object[][] {
+                { null },
+                { "items=0-99" },
+                { "bytes=0-99,200-299" },
+                { "bytes=100" },
+                { "bytes=abc-def" },
+                { "bytes=99-0" },
+                { "bytes=-" }
+        };
+    }
+
+    @Test(dataProvider = "ignoredRanges")
+    public void shouldIgnoreUnsupportedRange(String header) {
+        assertEquals(ByteRange.parse(header, SIZE), Optional.empty());
+    }
+
+    @Test
+    public void shouldMatchIfRange() {
+        String etag = "\"3e8-abc\"";
+        Instant lastModified = Instant.parse("2024-05-01T10:15:30.250Z");
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.atOffset(ZoneOffset.UTC));
+
+        assertTrue(ByteRange.matchesIfRange(null, etag, lastModified));
+        assertTrue(ByteRange.matchesIfRange(etag, etag, lastModified));
+        assertFalse(ByteRange.matchesIfRange("\"other\"", etag, lastModified));
+        assertFalse(ByteRange.matchesIfRange("W/" + etag, "W/" + etag, lastModified));
+        assertTrue(ByteRange.matchesIfRange(date, etag, lastModified));
+        assertFalse(ByteRange.matchesIfRange(date, etag, lastModified.plusSeconds(1)));
+        assertFalse(ByteRange.matchesIfRange("yesterday", etag, lastModified));
+    }
+}
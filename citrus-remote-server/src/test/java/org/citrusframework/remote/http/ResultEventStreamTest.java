@@ -0,0 +1,102 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.http;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import org.citrusframework.remote.listener.RemoteTestListener;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.transformer.JsonResponseTransformer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ResultEventStreamTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpClient client;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        RemoteTestListener listener = new RemoteTestListener();
+        listener.restore(List.of(result("shouldFirst"), result("shouldSecond"), result("shouldThird")));
+        listener.complete();
+
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer()
+                .requestHandler(request -> new ResultEventStream(vertx, request.response(), listener,
+                        new JsonResponseTransformer())
+                        .start(Long.parseLong(request.getHeader("Last-Event-ID")),
+                                Future.succeededFuture(), 15000L))
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        client = vertx.createHttpClient();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldReplayResultsAfterLastEventId() throws Exception {
+        String events = stream("1");
+
+        assertFalse(events.contains("id: 1\n"));
+        assertFalse(events.contains("shouldFirst"));
+        assertTrue(events.indexOf("id: 2\n") < events.indexOf("id: 3\n"));
+        assertTrue(events.contains("shouldSecond"));
+        assertTrue(events.contains("shouldThird"));
+        assertTrue(events.endsWith("event: completed\ndata: COMPLETED\n\n"));
+    }
+
+    @Test
+    public void shouldOnlyCompleteWhenClientIsUpToDate() throws Exception {
+        String events = stream("3");
+
+        assertFalse(events.contains("event: result"));
+        assertEquals(events, ":\n\nevent: completed\ndata: COMPLETED\n\n");
+    }
+
+    private String stream(String lastEventId) throws Exception {
+        return client.request(HttpMethod.GET, server.actualPort(), "localhost", "/results/stream")
+                .compose(request -> request.putHeader("Last-Event-ID", lastEventId).send())
+                .compose(HttpClientResponse::body)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+                .toString();
+    }
+
+    private static RemoteResult result(String testName) {
+        RemoteResult result = new RemoteResult();
+        result.setTestClass("org.example.FooIT");
+        result.setTestName(testName);
+        result.setSuccess(true);
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.job;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import org.citrusframework.remote.CitrusRemoteApplication;
+import org.citrusframework.remote.model.RemoteJobMetrics;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class JobExecutorTest {
+
+    private JobExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeMethod
+    public void setup() {
+        executor = new JobExecutor(1, 1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldQueueJobsUpToCapacity() throws Exception {
+        CompletableFuture<String> running = executor.submit(this::blockingJob);
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+
+        RemoteJobMetrics metrics = executor.getMetrics();
+        assertEquals(metrics.getQueuedJobs(), 1);
+        assertEquals(metrics.getMaxConcurrentJobs(), 1);
+        assertEquals(metrics.getQueueCapacity(), 1);
+
+        release.countDown();
+        assertEquals(running.get(10, TimeUnit.SECONDS), "done");
+        assertEquals(queued.get(10, TimeUnit.SECONDS), "queued");
+        assertEquals(executor.getMetrics().getCompletedJobs(), 2L);
+        assertEquals(executor.getMetrics().getRejectedJobs(), 0L);
+    }
+
+    @Test
+    public void shouldRejectJobsWhenSaturated() {
+        executor.submit(this::blockingJob);
+        executor.submit(this::blockingJob);
+
+        JobRejectedException rejected = assertThrows(JobRejectedException.class,
+                () -> executor.submit(() -> "rejected"));
+        assertEquals(rejected.getRetryAfterSeconds(), 10L);
+        assertEquals(executor.getMetrics().getRejectedJobs(), 1L);
+    }
+
+    @Test
+    public void shouldRespondWithTooManyRequests() throws Exception {
+        executor.submit(this::blockingJob);
+        executor.submit(this::blockingJob);
+
+        Vertx vertx = Vertx.vertx();
+        try {
+            Router router = Router.router(vertx);
+            router.get("/run")
+                    .handler(CitrusRemoteApplication.wrapThrowingHandler(ctx -> {
+                        executor.submit(() -> "rejected");
+                        ctx.response().end();
+                    }));
+            HttpServer server = vertx.createHttpServer()
+                    .requestHandler(router)
+                    .listen(0)
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            HttpClientResponse response = vertx.createHttpClient()
+                    .request(HttpMethod.GET, server.actualPort(), "localhost", "/run")
+                    .compose(HttpClientRequest::send)
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            assertEquals(response.statusCode(), 429);
+            assertEquals(response.getHeader("Retry-After"), "10");
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private String blockingJob() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
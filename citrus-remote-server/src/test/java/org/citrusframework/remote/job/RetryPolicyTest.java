@@ -0,0 +1,95 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.job;
+
+import org.citrusframework.remote.model.RemoteResult;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class RetryPolicyTest {
+
+    private final ClassLoader classLoader = RetryPolicyTest.class.getClassLoader();
+
+    @Test
+    public void shouldBeEnabledWithMoreThanOneAttempt() {
+        assertFalse(new RetryPolicy(1, Collections.emptyList()).isEnabled());
+        assertTrue(new RetryPolicy(2, Collections.emptyList()).isEnabled());
+    }
+
+    @Test
+    public void shouldRetryAllFailuresWithoutCauses() {
+        RetryPolicy policy = new RetryPolicy(3, Collections.emptyList());
+
+        assertTrue(policy.isRetryable(failed("java.lang.AssertionError"), classLoader));
+        assertTrue(policy.isRetryable(failed(null), classLoader));
+        assertTrue(new RetryPolicy(3, null).isRetryable(failed("java.io.IOException"), classLoader));
+    }
+
+    @Test
+    public void shouldNotRetrySuccessOrSkipped() {
+        RetryPolicy policy = new RetryPolicy(3, Collections.emptyList());
+
+        RemoteResult success = new RemoteResult();
+        success.setSuccess(true);
+        RemoteResult skipped = new RemoteResult();
+        skipped.setSkipped(true);
+
+        assertFalse(policy.isRetryable(success, classLoader));
+        assertFalse(policy.isRetryable(skipped, classLoader));
+    }
+
+    @DataProvider
+    public Object[][] causes() {
+        return new Object[][] {
+                { "java.io.IOException", true },
+                { "java.net.SocketTimeoutException", true },
+                { "java.util.concurrent.TimeoutException", true },
+                { "org.example.UnknownException", false },
+                { "java.lang.AssertionError", false },
+                { null, false }
+        };
+    }
+
+    @Test(dataProvider = "causes")
+    public void shouldRetryConfiguredCausesAndSubtypes(String cause, boolean retryable) {
+        RetryPolicy policy = new RetryPolicy(3, List.of("java.io.IOException", "java.util.concurrent.TimeoutException"));
+
+        assertEquals(policy.isRetryable(failed(cause), classLoader), retryable);
+    }
+
+    @Test
+    public void shouldMatchUnloadableCausesByName() {
+        RetryPolicy policy = new RetryPolicy(3, List.of("org.example.FlakyEndpointException"));
+
+        assertTrue(policy.isRetryable(failed("org.example.FlakyEndpointException"), classLoader));
+        assertFalse(policy.isRetryable(failed("org.example.OtherException"), classLoader));
+    }
+
+    private static RemoteResult failed(String cause) {
+        RemoteResult result = new RemoteResult();
+        result.setFailed(true);
+        result.setCause(cause);
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.listener;
+
+import org.citrusframework.DefaultTestCase;
+import org.citrusframework.remote.model.RemoteResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class JobAwareTestListenerTest {
+
+    private final RemoteTestListener defaultListener = new RemoteTestListener();
+    private final JobAwareTestListener listener = new JobAwareTestListener(defaultListener);
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() {
+        JobAwareTestListener.unbind();
+    }
+
+    @Test
+    public void shouldReportToDefaultListenerOutsideJobs() {
+        success("shouldRunOutsideJob");
+
+        assertEquals(testNames(defaultListener), List.of("shouldRunOutsideJob"));
+    }
+
+    @Test
+    public void shouldIsolateJobsOnDifferentThreads() throws InterruptedException {
+        RemoteTestListener first = new RemoteTestListener();
+        RemoteTestListener second = new RemoteTestListener();
+
+        Thread firstJob = new Thread(() -> runJob(first, "shouldRunFirstJob"));
+        Thread secondJob = new Thread(() -> runJob(second, "shouldRunSecondJob"));
+        firstJob.start();
+        secondJob.start();
+        firstJob.join();
+        secondJob.join();
+
+        assertEquals(testNames(first), List.of("shouldRunFirstJob"));
+        assertEquals(testNames(second), List.of("shouldRunSecondJob"));
+        assertTrue(defaultListener.toRemoteResults().isEmpty());
+    }
+
+    @Test
+    public void shouldNotInheritJobBindingInChildThreads() throws InterruptedException {
+        RemoteTestListener job = new RemoteTestListener();
+        JobAwareTestListener.bind(job);
+
+        Thread child = new Thread(() -> success("shouldRunInChildThread"));
+        child.start();
+        child.join();
+        success("shouldRunInJob");
+
+        assertEquals(testNames(job), List.of("shouldRunInJob"));
+        assertEquals(testNames(defaultListener), List.of("shouldRunInChildThread"));
+    }
+
+    private void runJob(RemoteTestListener jobListener, String testName) {
+        JobAwareTestListener.bind(jobListener);
+        try {
+            success(testName);
+        } finally {
+            JobAwareTestListener.unbind();
+        }
+    }
+
+    private void success(String testName) {
+        DefaultTestCase test = new DefaultTestCase();
+        test.setName(testName);
+        test.setTestClass(JobAwareTestListenerTest.class);
+        listener.onTestStart(test);
+        listener.onTestSuccess(test);
+    }
+
+    private static List<String> testNames(RemoteTestListener remoteTestListener) {
+        return remoteTestListener.toRemoteResults().stream()
+                .map(RemoteResult::getTestName)
+                .toList();
+    }
+}
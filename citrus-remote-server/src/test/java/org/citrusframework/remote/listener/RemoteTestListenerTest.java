@@ -0,0 +1,90 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.listener;
+
+import org.citrusframework.DefaultTestCase;
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.model.RemoteResultDelta;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class RemoteTestListenerTest {
+
+    @Test
+    public void shouldReturnResultsSinceCursor() {
+        RemoteTestListener listener = new RemoteTestListener();
+        success(listener, "shouldFirst");
+        success(listener, "shouldSecond");
+        success(listener, "shouldThird");
+
+        RemoteResultDelta delta = listener.resultsSince(1L);
+        assertEquals(delta.getNext(), 3L);
+        assertEquals(delta.getResults().stream().map(RemoteResult::getTestName).toList(),
+                List.of("shouldSecond", "shouldThird"));
+
+        success(listener, "shouldFourth");
+        delta = listener.resultsSince(delta.getNext());
+        assertEquals(delta.getNext(), 4L);
+        assertEquals(delta.getResults().size(), 1);
+        assertEquals(delta.getResults().get(0).getTestName(), "shouldFourth");
+    }
+
+    @Test
+    public void shouldReturnEmptyDeltaForCurrentOrAheadCursor() {
+        RemoteTestListener listener = new RemoteTestListener();
+        success(listener, "shouldFirst");
+
+        RemoteResultDelta current = listener.resultsSince(1L);
+        assertTrue(current.getResults().isEmpty());
+        assertEquals(current.getNext(), 1L);
+
+        RemoteResultDelta ahead = listener.resultsSince(42L);
+        assertTrue(ahead.getResults().isEmpty());
+        assertEquals(ahead.getNext(), 1L);
+    }
+
+    @Test
+    public void shouldNotifyCompletionSubscribers() {
+        RemoteTestListener listener = new RemoteTestListener();
+        AtomicInteger notified = new AtomicInteger();
+        Runnable subscriber = notified::incrementAndGet;
+        Runnable removed = () -> notified.addAndGet(100);
+
+        listener.subscribeCompletion(subscriber);
+        listener.subscribeCompletion(removed);
+        listener.unsubscribeCompletion(removed);
+        listener.complete();
+        assertEquals(notified.get(), 1);
+
+        listener.unsubscribeCompletion(subscriber);
+        listener.subscribeCompletion(notified::incrementAndGet);
+        assertEquals(notified.get(), 2);
+    }
+
+    private static void success(RemoteTestListener listener, String name) {
+        DefaultTestCase test = new DefaultTestCase();
+        test.setName(name);
+        test.setTestClass(RemoteTestListenerTest.class);
+        listener.onTestStart(test);
+        listener.onTestSuccess(test);
+    }
+}
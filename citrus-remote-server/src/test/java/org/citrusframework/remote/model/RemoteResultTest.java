@@ -0,0 +1,124 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.model;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class RemoteResultTest {
+
+    @Test
+    public void shouldCountPassOnRetryAsFlaky() {
+        RemoteResult failed = failed("FooIT", "a");
+        RemoteResult success = success("FooIT", "a");
+
+        RemoteResult retried = RemoteResult.retry(failed, success);
+
+        assertTrue(retried.isSuccess());
+        assertFalse(retried.isFailed());
+        assertTrue(retried.isFlaky());
+        assertEquals(retried.getAttempts(), 2);
+        assertFalse(success.isFlaky());
+        assertEquals(success.getAttempts(), 1);
+    }
+
+    @Test
+    public void shouldKeepFailureWhenRetryFails() {
+        RemoteResult first = failed("FooIT", "a");
+        RemoteResult second = failed("FooIT", "a");
+        second.setErrorMessage("Second failure");
+
+        RemoteResult retried = RemoteResult.retry(first, second);
+
+        assertTrue(retried.isFailed());
+        assertFalse(retried.isFlaky());
+        assertEquals(retried.getErrorMessage(), "Second failure");
+        assertEquals(retried.getAttempts(), 2);
+    }
+
+    @Test
+    public void shouldKeepPassedResultAcrossAttempts() {
+        RemoteResult flaky = RemoteResult.retry(failed("FooIT", "a"), success("FooIT", "a"));
+        RemoteResult failed = failed("FooIT", "a");
+
+        RemoteResult retried = RemoteResult.retry(flaky, failed);
+
+        assertTrue(retried.isSuccess());
+        assertTrue(retried.isFlaky());
+        assertEquals(retried.getAttempts(), 3);
+
+        RemoteResult stillFailing = RemoteResult.retry(RemoteResult.retry(failed("FooIT", "a"), failed("FooIT", "a")),
+                failed("FooIT", "a"));
+        assertTrue(stillFailing.isFailed());
+        assertFalse(stillFailing.isFlaky());
+        assertEquals(stillFailing.getAttempts(), 3);
+    }
+
+    @Test
+    public void shouldReduceToLatestAttempts() {
+        RemoteResult a = failed("FooIT", "a");
+        RemoteResult b = success("FooIT", "b");
+        RemoteResult c = failed("BarIT", "c");
+        RemoteResult retriedA = RemoteResult.retry(a, success("FooIT", "a"));
+        RemoteResult retriedC = RemoteResult.retry(c, failed("BarIT", "c"));
+
+        List<RemoteResult> latest = RemoteResult.latestAttempts(List.of(a, b, c, retriedC, retriedA));
+
+        assertEquals(latest.size(), 3);
+        assertSame(latest.get(0), retriedA);
+        assertSame(latest.get(1), b);
+        assertSame(latest.get(2), retriedC);
+    }
+
+    @Test
+    public void shouldKeepRepeatedFirstAttempts() {
+        RemoteResult first = success("FooIT", "a");
+        RemoteResult second = failed("FooIT", "a");
+
+        List<RemoteResult> latest = RemoteResult.latestAttempts(List.of(first, second));
+
+        assertEquals(latest.size(), 2);
+        assertSame(latest.get(0), first);
+        assertSame(latest.get(1), second);
+    }
+
+    private static RemoteResult success(String testClass, String testName) {
+        RemoteResult result = result(testClass, testName);
+        result.setSuccess(true);
+        return result;
+    }
+
+    private static RemoteResult failed(String testClass, String testName) {
+        RemoteResult result = result(testClass, testName);
+        result.setFailed(true);
+        result.setErrorMessage("Failed");
+        return result;
+    }
+
+    private static RemoteResult result(String testClass, String testName) {
+        RemoteResult result = new RemoteResult();
+        result.setTestClass(testClass);
+        result.setTestName(testName);
+        return result;
+    }
+}
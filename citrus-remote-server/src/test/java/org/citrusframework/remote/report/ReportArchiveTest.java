@@ -0,0 +1,168 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.report;
+
+import org.citrusframework.remote.model.RemoteReportManifest;
+import org.citrusframework.remote.util.Sha256;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ReportArchiveTest {
+
+    private Path directory;
+    private Path junitReportsFolder;
+    private Path suiteReportFile;
+
+    private ReportIndex reportIndex;
+    private ReportArchive archive;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("citrus-remote-reports");
+        junitReportsFolder = Files.createDirectories(directory.resolve("junitreports"));
+        suiteReportFile = directory.resolve("citrus-test-results.xml");
+
+        Files.writeString(suiteReportFile, "<testsuite name=\"citrus\"/>");
+        Files.writeString(junitReportsFolder.resolve("TEST-BarIT.xml"), "<testsuite name=\"BarIT\"/>");
+        Files.writeString(junitReportsFolder.resolve("TEST-FooIT.xml"), "<testsuite name=\"FooIT\"/>");
+
+        reportIndex = new ReportIndex();
+        archive = new ReportArchive(junitReportsFolder, suiteReportFile);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws IOException {
+        reportIndex.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldListAllEntriesForEmptyManifest() {
+        Set<String> changed = archive.changedEntries(reportIndex, new RemoteReportManifest());
+
+        assertEquals(new ArrayList<>(changed), List.of(
+                "citrus-test-results.xml",
+                "junitreports/TEST-BarIT.xml",
+                "junitreports/TEST-FooIT.xml"));
+    }
+
+    @Test
+    public void shouldSkipUnchangedEntries() throws IOException {
+        RemoteReportManifest manifest = manifest(
+                "citrus-test-results.xml", Sha256.hex(suiteReportFile),
+                "junitreports/TEST-BarIT.xml", Sha256.hex(junitReportsFolder.resolve("TEST-BarIT.xml")),
+                "junitreports/TEST-FooIT.xml", Sha256.hex(junitReportsFolder.resolve("TEST-FooIT.xml")));
+
+        assertTrue(archive.changedEntries(reportIndex, manifest).isEmpty());
+    }
+
+    @Test
+    public void shouldListChangedAndNewEntries() throws IOException {
+        RemoteReportManifest manifest = manifest(
+                "citrus-test-results.xml", Sha256.hex(suiteReportFile),
+                "junitreports/TEST-BarIT.xml", Sha256.hex("outdated"));
+
+        Set<String> changed = archive.changedEntries(reportIndex, manifest);
+
+        assertEquals(new ArrayList<>(changed), List.of(
+                "junitreports/TEST-BarIT.xml",
+                "junitreports/TEST-FooIT.xml"));
+    }
+
+    @Test
+    public void shouldListChangedSuiteReport() throws IOException {
+        RemoteReportManifest manifest = manifest(
+                "citrus-test-results.xml", Sha256.hex("outdated"),
+                "junitreports/TEST-BarIT.xml", Sha256.hex(junitReportsFolder.resolve("TEST-BarIT.xml")),
+                "junitreports/TEST-FooIT.xml", Sha256.hex(junitReportsFolder.resolve("TEST-FooIT.xml")));
+
+        assertEquals(new ArrayList<>(archive.changedEntries(reportIndex, manifest)),
+                List.of("citrus-test-results.xml"));
+    }
+
+    @Test
+    public void shouldArchiveChangedEntriesOnly() throws IOException {
+        RemoteReportManifest manifest = manifest(
+                "citrus-test-results.xml", Sha256.hex(suiteReportFile),
+                "junitreports/TEST-BarIT.xml", Sha256.hex(junitReportsFolder.resolve("TEST-BarIT.xml")));
+        Set<String> changed = archive.changedEntries(reportIndex, manifest);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int entries = archive.filter(changed::contains).writeTo(out);
+
+        assertEquals(entries, 1);
+        assertEquals(entries(out.toByteArray()), Map.of(
+                "junitreports/TEST-FooIT.xml", "<testsuite name=\"FooIT\"/>"));
+    }
+
+    @Test
+    public void shouldArchiveAllEntries() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(archive.writeTo(out), 3);
+        assertEquals(entries(out.toByteArray()).keySet(), Set.of(
+                "citrus-test-results.xml",
+                "junitreports/TEST-BarIT.xml",
+                "junitreports/TEST-FooIT.xml"));
+    }
+
+    private static RemoteReportManifest manifest(String... files) {
+        Map<String, String> hashes = new HashMap<>();
+        for (int i = 0; i < files.length; i += 2) {
+            hashes.put(files[i], files[i + 1]);
+        }
+
+        RemoteReportManifest manifest = new RemoteReportManifest();
+        manifest.setFiles(hashes);
+        return manifest;
+    }
+
+    private static Map<String, String> entries(byte[] archive) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes()));
+            }
+        }
+        return entries;
+    }
+}
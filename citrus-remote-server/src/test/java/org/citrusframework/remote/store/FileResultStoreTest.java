@@ -0,0 +1,182 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.store;
+
+import org.citrusframework.remote.model.RemoteResult;
+import org.citrusframework.remote.store.ResultStore.StoredJob;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class FileResultStoreTest {
+
+    private Path directory;
+    private FileResultStore store;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("citrus-remote-results");
+        store = new FileResultStore(directory, 60000L);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldLoadStoredResults() {
+        RemoteResult success = result("FooIT", "shouldPass", 12L);
+        success.setSuccess(true);
+
+        RemoteResult failed = result("FooIT", "shouldFail", 0L);
+        failed.setFailed(true);
+        failed.setCause("org.citrusframework.exceptions.CitrusRuntimeException");
+        failed.setErrorMessage("Validation failed: äöü");
+        failed.setFailureStack("at FooIT.shouldFail(FooIT.java:42)");
+
+        RemoteResult skipped = result("BarIT", "shouldSkip", null);
+        skipped.setSkipped(true);
+
+        RemoteResult retried = result("BarIT", "shouldRetry", 300000L);
+        retried.setSuccess(true);
+        retried.setAttempts(3);
+        retried.setFlaky(true);
+
+        store.append("job-1", success);
+        store.append("job-1", failed);
+        store.append("job-1", skipped);
+        store.append("job-1", retried);
+        store.finish("job-1", "FAILED");
+        store.close();
+
+        store = new FileResultStore(directory, 60000L);
+        StoredJob job = store.load("job-1").orElseThrow();
+
+        assertEquals(job.id(), "job-1");
+        assertEquals(job.state(), "FAILED");
+        assertEquals(job.results().size(), 4);
+        assertResult(job.results().get(0), success);
+        assertResult(job.results().get(1), failed);
+        assertResult(job.results().get(2), skipped);
+        assertResult(job.results().get(3), retried);
+        assertSame(job.results().get(0).getTestClass(), job.results().get(1).getTestClass());
+    }
+
+    @Test
+    public void shouldLoadResultsOfRunningJob() {
+        RemoteResult success = result("FooIT", "shouldPass", 5L);
+        success.setSuccess(true);
+        store.append("job-1", success);
+
+        StoredJob job = store.load("job-1").orElseThrow();
+
+        assertNull(job.state());
+        assertEquals(job.results().size(), 1);
+        assertResult(job.results().get(0), success);
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteRecordAtTheEnd() throws IOException {
+        RemoteResult success = result("FooIT", "shouldPass", 5L);
+        success.setSuccess(true);
+        RemoteResult failed = result("FooIT", "shouldFail", 7L);
+        failed.setFailed(true);
+        failed.setErrorMessage("Interrupted while writing");
+        failed.setFailureStack("at FooIT.shouldFail(FooIT.java:42)");
+
+        store.append("job-1", success);
+        store.append("job-1", failed);
+        store.close();
+
+        try (FileChannel channel = FileChannel.open(directory.resolve("job-1.results"), WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        store = new FileResultStore(directory, 60000L);
+        StoredJob job = store.load("job-1").orElseThrow();
+
+        assertNull(job.state());
+        assertEquals(job.results().size(), 1);
+        assertResult(job.results().get(0), success);
+    }
+
+    @Test
+    public void shouldListJobsOldestFirst() throws InterruptedException {
+        store.append("job-1", result("FooIT", "shouldPass", 1L));
+        Thread.sleep(5L);
+        store.append("job-2", result("FooIT", "shouldPass", 1L));
+        store.close();
+
+        store = new FileResultStore(directory, 60000L);
+        assertEquals(store.getJobIds(), List.of("job-1", "job-2"));
+
+        store.delete("job-1");
+        assertEquals(store.getJobIds(), List.of("job-2"));
+        assertFalse(store.load("job-1").isPresent());
+    }
+
+    @Test
+    public void shouldIgnoreInvalidJobIds() {
+        store.append("../job", result("FooIT", "shouldPass", 1L));
+
+        assertFalse(store.load("../job").isPresent());
+        assertTrue(store.getJobIds().isEmpty());
+    }
+
+    private static RemoteResult result(String testClass, String testName, Long durationMillis) {
+        RemoteResult result = new RemoteResult();
+        result.setTestClass(testClass);
+        result.setTestName(testName);
+        result.setDurationMillis(durationMillis);
+        return result;
+    }
+
+    private static void assertResult(RemoteResult actual, RemoteResult expected) {
+        assertEquals(actual.getTestClass(), expected.getTestClass());
+        assertEquals(actual.getTestName(), expected.getTestName());
+        assertEquals(actual.getDurationMillis(), expected.getDurationMillis());
+        assertEquals(actual.getCause(), expected.getCause());
+        assertEquals(actual.getErrorMessage(), expected.getErrorMessage());
+        assertEquals(actual.getFailureStack(), expected.getFailureStack());
+        assertEquals(actual.isSuccess(), expected.isSuccess());
+        assertEquals(actual.isFailed(), expected.isFailed());
+        assertEquals(actual.isSkipped(), expected.isSkipped());
+        assertEquals(actual.getAttempts(), expected.getAttempts());
+        assertEquals(actual.isFlaky(), expected.isFlaky());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.remote.transformer;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+import static org.testng.Assert.assertEquals;
+
+public class ResultEncodingTest {
+
+    @DataProvider
+    public Object[][] acceptHeaders() {
+        return new Object[][] {
+                { null, ResultEncoding.JSON },
+                { "", ResultEncoding.JSON },
+                { "*/*", ResultEncoding.JSON },
+                { "text/html", ResultEncoding.JSON },
+                { "application/json", ResultEncoding.JSON },
+                { "application/cbor", ResultEncoding.CBOR },
+                { "Application/X-Jackson-Smile", ResultEncoding.SMILE },
+                { "application/cbor, application/x-jackson-smile", ResultEncoding.CBOR },
+                { "application/json;q=0.5, application/cbor", ResultEncoding.CBOR },
+                { "application/cbor;q=0.4, application/x-jackson-smile;q=0.8, application/json;q=0.6", ResultEncoding.SMILE },
+                { "application/cbor; charset=utf-8; q=0.9, application/json; q=0.9", ResultEncoding.CBOR },
+                { "application/cbor;q=0", ResultEncoding.JSON },
+                { "application/cbor;q=0, application/x-jackson-smile;q=0.1", ResultEncoding.SMILE },
+                { "application/cbor;q=invalid, application/json;q=0.1", ResultEncoding.JSON }
+        };
+    }
+
+    @Test(dataProvider = "acceptHeaders")
+    public void shouldSelectPreferredEncoding(String accept, ResultEncoding expected) {
+        assertEquals(ResultEncoding.fromAccept(accept), expected);
+    }
+
+    @Test
+    public void shouldResolveMediaType() {
+        assertEquals(ResultEncoding.fromMediaType("application/cbor; charset=utf-8"), Optional.of(ResultEncoding.CBOR));
+        assertEquals(ResultEncoding.fromMediaType("application/xml"), Optional.empty());
+        assertEquals(ResultEncoding.fromMediaType(null), Optional.empty());
+    }
+}